@@ -0,0 +1,51 @@
+package pe.ty.webflux.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Properties;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import pe.ty.webflux.error.ErrorBodyCache;
+import pe.ty.webflux.error.ErrorHandlingMetrics;
+import pe.ty.webflux.error.ErrorPropertiesResolver;
+import pe.ty.webflux.error.ErrorResponseWriter;
+import pe.ty.webflux.error.FastRejectGuard;
+import pe.ty.webflux.error.TyReactiveExceptionHandler;
+import pe.ty.webflux.error.logging.ErrorLogPolicy;
+
+final class BenchmarkSupport {
+
+  private BenchmarkSupport() {
+  }
+
+  static ObjectMapper objectMapper() {
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.setSerializationInclusion(Include.NON_NULL);
+    return mapper;
+  }
+
+  static MockEnvironment environment() {
+    return new MockEnvironment()
+        .withProperty("spring.application.name", "benchmark")
+        .withProperty("application.error.bad-request.code", "ER0001")
+        .withProperty("application.error.not-found.code", "ER0004")
+        .withProperty("application.error.not-found.message", "Resource not found")
+        .withProperty("application.error.unexpected.code", "ER9999")
+        .withProperty("application.error.unexpected.message", "Unexpected error");
+  }
+
+  static TyReactiveExceptionHandler exceptionHandler(int bodyCacheSize) {
+    ErrorPropertiesResolver propertiesResolver = new ErrorPropertiesResolver(environment(),
+        () -> new BuildProperties(new Properties()));
+    ErrorResponseWriter responseWriter = new ErrorResponseWriter(
+        Collections.singletonMap(MediaType.APPLICATION_JSON, objectMapper()),
+        new ErrorBodyCache(bodyCacheSize, Duration.ofMinutes(10)), ErrorHandlingMetrics.NONE);
+    ErrorLogPolicy logPolicy = new ErrorLogPolicy(0.0d, 0.0d, 0, 500, Duration.ZERO);
+    return new TyReactiveExceptionHandler(propertiesResolver, Collections.emptyList(),
+        responseWriter, ErrorHandlingMetrics.NONE, logPolicy, FastRejectGuard.DISABLED);
+  }
+
+}
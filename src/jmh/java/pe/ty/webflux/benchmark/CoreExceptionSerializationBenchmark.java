@@ -0,0 +1,66 @@
+package pe.ty.webflux.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.core.exception.CoreExceptionType;
+
+/**
+ * Serialization of {@link CoreException} bodies with the default {@link ObjectMapper} and with the
+ * one configured as {@code TyJacksonAutoConfiguration} does.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+public class CoreExceptionSerializationBenchmark {
+
+  private ObjectMapper defaultMapper;
+  private ObjectMapper tyMapper;
+  private CoreException complete;
+  private CoreException partial;
+
+  @Setup
+  public void setup() {
+    defaultMapper = new ObjectMapper();
+    tyMapper = BenchmarkSupport.objectMapper();
+    complete = CoreException.builder()
+        .status(CoreExceptionStatus.NOT_FOUND)
+        .code("ER0004")
+        .message("Not found -> HTTP GET \"/not/mapped/uri?page=1\"")
+        .component("benchmark")
+        .errorType(CoreExceptionType.TECHNICAL)
+        .build();
+    partial = CoreException.builder().status(CoreExceptionStatus.UNEXPECTED).build();
+  }
+
+  @Benchmark
+  public byte[] defaultMapperComplete() throws JsonProcessingException {
+    return defaultMapper.writeValueAsBytes(complete);
+  }
+
+  @Benchmark
+  public byte[] tyMapperComplete() throws JsonProcessingException {
+    return tyMapper.writeValueAsBytes(complete);
+  }
+
+  @Benchmark
+  public byte[] defaultMapperPartial() throws JsonProcessingException {
+    return defaultMapper.writeValueAsBytes(partial);
+  }
+
+  @Benchmark
+  public byte[] tyMapperPartial() throws JsonProcessingException {
+    return tyMapper.writeValueAsBytes(partial);
+  }
+
+}
@@ -0,0 +1,105 @@
+package pe.ty.webflux.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.error.TyReactiveExceptionHandler;
+
+/**
+ * Cost of {@link TyReactiveExceptionHandler#handle} per registered handler. Every invocation
+ * builds a new mock exchange, {@link #mockExchange()} measures that part alone.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+public class ExceptionHandlerBenchmark {
+
+  @Param({"core", "input", "method-not-allowed", "response-status", "generic"})
+  private String exception;
+
+  @Param({"256", "0"})
+  private int bodyCacheSize;
+
+  private TyReactiveExceptionHandler handler;
+  private Throwable throwable;
+
+  @Setup
+  public void setup() {
+    handler = BenchmarkSupport.exceptionHandler(bodyCacheSize);
+    throwable = createException(exception);
+    verifyStatus();
+  }
+
+  /**
+   * Fails the run when the fixture does not render the expected error, so a broken handler is
+   * not measured as a fast one.
+   */
+  private void verifyStatus() {
+    HttpStatus status = handle().getResponse().getStatusCode();
+    HttpStatus expected = expectedStatus(exception);
+    if (status != expected) {
+      throw new IllegalStateException(
+          "Expected " + expected + " for '" + exception + "' but was " + status);
+    }
+  }
+
+  @Benchmark
+  public MockServerWebExchange handle() {
+    MockServerWebExchange exchange = mockExchange();
+    handler.handle(exchange, throwable).block();
+    return exchange;
+  }
+
+  @Benchmark
+  public MockServerWebExchange mockExchange() {
+    return MockServerWebExchange.from(MockServerHttpRequest.get("/not/mapped/uri?page=1"));
+  }
+
+  private static HttpStatus expectedStatus(String exception) {
+    switch (exception) {
+      case "core":
+      case "response-status":
+        return HttpStatus.NOT_FOUND;
+      case "input":
+        return HttpStatus.BAD_REQUEST;
+      case "method-not-allowed":
+        return HttpStatus.METHOD_NOT_ALLOWED;
+      default:
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+  }
+
+  private static Throwable createException(String exception) {
+    switch (exception) {
+      case "core":
+        return CoreException.builder().status(CoreExceptionStatus.NOT_FOUND).build();
+      case "input":
+        return new ServerWebInputException("Invalid input");
+      case "method-not-allowed":
+        return new MethodNotAllowedException(HttpMethod.POST,
+            Collections.singleton(HttpMethod.GET));
+      case "response-status":
+        return new ResponseStatusException(HttpStatus.NOT_FOUND);
+      default:
+        return new IllegalStateException("Unexpected");
+    }
+  }
+
+}
@@ -0,0 +1,58 @@
+package pe.ty.webflux.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import pe.ty.webflux.TestApplication;
+
+/**
+ * Cold start of {@link TestApplication} on a random port, every fork is a fresh JVM measured
+ * once. The bean count of the started context is logged on tear down.
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark {
+
+  @Param({"false", "true"})
+  private boolean lazyInitialization;
+
+  private ConfigurableApplicationContext context;
+
+  @Benchmark
+  public ConfigurableApplicationContext startup() {
+    context = new SpringApplicationBuilder(TestApplication.class)
+        .web(WebApplicationType.REACTIVE)
+        .lazyInitialization(lazyInitialization)
+        .properties("server.port=0", "spring.main.banner-mode=off")
+        .run();
+    return context;
+  }
+
+  @TearDown(Level.Iteration)
+  public void close() {
+    if (context != null) {
+      log.info("Started context with {} bean definitions", context.getBeanDefinitionCount());
+      context.close();
+    }
+  }
+
+}
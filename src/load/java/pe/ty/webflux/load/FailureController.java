@@ -0,0 +1,21 @@
+package pe.ty.webflux.load;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unexpected error endpoint for the load test, {@code RestTest} only fails through a shared
+ * static field that would also break its success scenarios.
+ */
+@RestController
+public class FailureController {
+
+  public final static String FAILURE_URI = "/load/failure";
+
+  @GetMapping(FAILURE_URI)
+  public Mono<?> fail() {
+    return Mono.error(new IllegalStateException("Load test failure"));
+  }
+
+}
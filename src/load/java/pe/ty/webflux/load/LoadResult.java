@@ -0,0 +1,25 @@
+package pe.ty.webflux.load;
+
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+@Getter
+@AllArgsConstructor
+public class LoadResult {
+
+  private final LoadScenario scenario;
+  private final Histogram histogram;
+  private final long unexpectedResponses;
+  private final long elapsedNanos;
+
+  public double getThroughput() {
+    return histogram.getTotalCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+  }
+
+  public double getPercentileMillis(double percentile) {
+    return histogram.getValueAtPercentile(percentile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+}
@@ -0,0 +1,35 @@
+package pe.ty.webflux.load;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+import pe.ty.webflux.rest.RestTest;
+
+@Getter
+@AllArgsConstructor
+public class LoadScenario {
+
+  private final static String HELLO = RestTest.BASE_TEST_URI + "/" + RestTest.HELLO_TEST_URI;
+  private final static String HELLO_PARAMS =
+      RestTest.BASE_TEST_URI + "/" + RestTest.HELLO_PARAMETERS_TEST_URI;
+
+  private final String name;
+  private final HttpMethod method;
+  private final String uri;
+  private final int expectedStatus;
+
+  public static List<LoadScenario> defaults() {
+    return Arrays.asList(
+        new LoadScenario("hello", HttpMethod.GET, HELLO, 200),
+        new LoadScenario("hello-params", HttpMethod.GET,
+            HELLO_PARAMS + "?param.string=load&param.integer=1", 200),
+        new LoadScenario("bad-request", HttpMethod.GET,
+            HELLO_PARAMS + "?param.string=load&param.integer=NaN", 400),
+        new LoadScenario("not-found", HttpMethod.GET, RestTest.BASE_TEST_URI + "/missing", 404),
+        new LoadScenario("method-not-allowed", HttpMethod.DELETE, HELLO, 405),
+        new LoadScenario("unexpected", HttpMethod.GET, FailureController.FAILURE_URI, 500));
+  }
+
+}
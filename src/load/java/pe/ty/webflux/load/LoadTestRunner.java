@@ -0,0 +1,91 @@
+package pe.ty.webflux.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import pe.ty.webflux.TestApplication;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Starts {@link TestApplication} on a random port, drives every {@link LoadScenario} with an
+ * open model load and exits with a non-zero status when a latency or throughput threshold is
+ * exceeded. Settings are read from {@code load.*} system properties.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+  private final static String LOCAL_SERVER_PORT = "local.server.port";
+
+  public static void main(String[] args) {
+    int rate = Integer.getInteger("load.rate", 500);
+    Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    Duration duration = Duration.parse(System.getProperty("load.duration", "PT20S"));
+    double maxP50 = Double.parseDouble(System.getProperty("load.max-p50-ms", "5"));
+    double maxP99 = Double.parseDouble(System.getProperty("load.max-p99-ms", "25"));
+    double maxP999 = Double.parseDouble(System.getProperty("load.max-p999-ms", "100"));
+    double minThroughputRatio =
+        Double.parseDouble(System.getProperty("load.min-throughput-ratio", "0.95"));
+
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(TestApplication.class)
+        .web(WebApplicationType.REACTIVE)
+        .properties("server.port=0", "spring.main.banner-mode=off")
+        .run(args);
+    ConnectionProvider connectionProvider = ConnectionProvider.builder("load-test")
+        .maxConnections(1000)
+        .pendingAcquireMaxCount(-1)
+        .build();
+    List<String> failures = new ArrayList<>();
+    try {
+      WebClient webClient = WebClient.builder()
+          .baseUrl("http://localhost:" + context.getEnvironment().getProperty(LOCAL_SERVER_PORT))
+          .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+          .build();
+      OpenModelLoadGenerator generator = new OpenModelLoadGenerator(webClient, rate);
+      log.info(String.format("%-20s %10s %10s %10s %12s %10s", "scenario", "p50 ms", "p99 ms",
+          "p99.9 ms", "req/s", "unexpected"));
+      for (LoadScenario scenario : LoadScenario.defaults()) {
+        generator.run(scenario, warmup);
+        LoadResult result = generator.run(scenario, duration);
+        log.info(String.format("%-20s %10.2f %10.2f %10.2f %12.1f %10d", scenario.getName(),
+            result.getPercentileMillis(50), result.getPercentileMillis(99),
+            result.getPercentileMillis(99.9), result.getThroughput(),
+            result.getUnexpectedResponses()));
+        check(failures, result, "p50", result.getPercentileMillis(50), maxP50);
+        check(failures, result, "p99", result.getPercentileMillis(99), maxP99);
+        check(failures, result, "p99.9", result.getPercentileMillis(99.9), maxP999);
+        if (result.getThroughput() < rate * minThroughputRatio) {
+          failures.add(scenario.getName() + " throughput " + result.getThroughput()
+              + " req/s below " + rate * minThroughputRatio);
+        }
+        if (result.getUnexpectedResponses() > 0) {
+          failures.add(scenario.getName() + " got " + result.getUnexpectedResponses()
+              + " unexpected responses");
+        }
+      }
+    } finally {
+      connectionProvider.dispose();
+      context.close();
+    }
+    if (!failures.isEmpty()) {
+      failures.forEach(failure -> log.error("Load test threshold exceeded: {}", failure));
+      System.exit(1);
+    }
+    log.info("Load test thresholds met");
+  }
+
+  private static void check(List<String> failures, LoadResult result, String percentile,
+      double value, double max) {
+    if (value > max) {
+      failures.add(result.getScenario().getName() + " " + percentile + " " + value
+          + " ms over " + max + " ms");
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+package pe.ty.webflux.load;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends requests at a fixed arrival rate regardless of how fast responses come back. Latency
+ * is measured from the intended send time of each request, so a stalled server shows up in the
+ * percentiles instead of silently lowering the offered load.
+ */
+public class OpenModelLoadGenerator {
+
+  private final static long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final WebClient webClient;
+  private final int requestsPerSecond;
+
+  public OpenModelLoadGenerator(WebClient webClient, int requestsPerSecond) {
+    this.webClient = webClient;
+    this.requestsPerSecond = requestsPerSecond;
+  }
+
+  public LoadResult run(LoadScenario scenario, Duration duration) {
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+    long requests = duration.toNanos() / intervalNanos;
+    Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+    LongAdder unexpected = new LongAdder();
+    long start = System.nanoTime();
+    Flux.interval(Duration.ofNanos(intervalNanos))
+        .take(requests)
+        .flatMap(tick -> send(scenario, start + tick * intervalNanos, recorder, unexpected),
+            Integer.MAX_VALUE)
+        .blockLast(duration.plus(Duration.ofSeconds(30)));
+    long elapsed = System.nanoTime() - start;
+    Histogram histogram = recorder.getIntervalHistogram();
+    return new LoadResult(scenario, histogram, unexpected.sum(), elapsed);
+  }
+
+  private Mono<Void> send(LoadScenario scenario, long intendedStart, Recorder recorder,
+      LongAdder unexpected) {
+    return webClient.method(scenario.getMethod())
+        .uri(scenario.getUri())
+        .exchange()
+        .flatMap(response -> {
+          if (response.rawStatusCode() != scenario.getExpectedStatus()) {
+            unexpected.increment();
+          }
+          return response.releaseBody();
+        })
+        .doOnError(ex -> unexpected.increment())
+        .onErrorResume(ex -> Mono.empty())
+        .doFinally(signal -> recorder.recordValue(
+            Math.min(System.nanoTime() - intendedStart, HIGHEST_TRACKABLE_NANOS)));
+  }
+
+}
@@ -0,0 +1,29 @@
+package pe.ty.webflux.accesslog;
+
+import pe.ty.core.exception.CoreExceptionStatus;
+
+/**
+ * Preallocated ring buffer slot, producers only copy references and primitives into it and the
+ * writer thread does all the formatting.
+ */
+final class AccessLogRecord {
+
+  long timestamp;
+  String method;
+  String path;
+  int status;
+  long bytes;
+  long durationNanos;
+  String requestId;
+  String errorCode;
+  CoreExceptionStatus errorStatus;
+
+  void clear() {
+    method = null;
+    path = null;
+    requestId = null;
+    errorCode = null;
+    errorStatus = null;
+  }
+
+}
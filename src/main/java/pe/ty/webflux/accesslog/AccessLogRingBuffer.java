@@ -0,0 +1,80 @@
+package pe.ty.webflux.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer queue over preallocated {@link AccessLogRecord}s following
+ * Vyukov's MPMC design: every slot carries a sequence number telling producers whether it is
+ * free and the consumer whether it is published. Producers {@link #claim()} a slot, fill it and
+ * {@link #publish(long)} it, a full buffer fails the claim instead of blocking.
+ */
+final class AccessLogRingBuffer {
+
+  private final int mask;
+  private final AccessLogRecord[] records;
+  private final AtomicLongArray sequences;
+  private final AtomicLong producerPosition;
+  private long consumerPosition;
+
+  AccessLogRingBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+    this.mask = size - 1;
+    this.records = new AccessLogRecord[size];
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      records[i] = new AccessLogRecord();
+      sequences.set(i, i);
+    }
+    this.producerPosition = new AtomicLong();
+  }
+
+  /**
+   * Reserves the next free slot, returns its position or {@code -1} when the buffer is full.
+   */
+  long claim() {
+    long position = producerPosition.get();
+    for (;;) {
+      long sequence = sequences.get((int) (position & mask));
+      long difference = sequence - position;
+      if (difference == 0) {
+        if (producerPosition.compareAndSet(position, position + 1)) {
+          return position;
+        }
+        position = producerPosition.get();
+      } else if (difference < 0) {
+        return -1;
+      } else {
+        position = producerPosition.get();
+      }
+    }
+  }
+
+  AccessLogRecord get(long position) {
+    return records[(int) (position & mask)];
+  }
+
+  void publish(long position) {
+    sequences.lazySet((int) (position & mask), position + 1);
+  }
+
+  /**
+   * Next published record for the single consumer, or {@code null} when none is ready. The
+   * record must be handed back through {@link #release()} once read.
+   */
+  AccessLogRecord poll() {
+    int index = (int) (consumerPosition & mask);
+    if (sequences.get(index) != consumerPosition + 1) {
+      return null;
+    }
+    return records[index];
+  }
+
+  void release() {
+    int index = (int) (consumerPosition & mask);
+    records[index].clear();
+    sequences.lazySet(index, consumerPosition + mask + 1);
+    consumerPosition++;
+  }
+
+}
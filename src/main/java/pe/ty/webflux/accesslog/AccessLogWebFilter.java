@@ -0,0 +1,148 @@
+package pe.ty.webflux.accesslog;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import pe.ty.core.exception.CoreException;
+import pe.ty.webflux.correlation.RequestIdWebFilter;
+import pe.ty.webflux.error.TyReactiveExceptionHandler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Records one access log entry per request with the bytes written through the response. Errors
+ * rendered by {@link TyReactiveExceptionHandler} outside the filter chain are recorded when that
+ * response is committed, with their {@link CoreException} code and status and the
+ * {@code Content-Length} as size. Requests cancelled before the commit are recorded with status
+ * {@value #CLIENT_CLOSED_REQUEST}. The duration is the time to the response commit.
+ */
+public class AccessLogWebFilter implements WebFilter {
+
+  public final static int CLIENT_CLOSED_REQUEST = 499;
+
+  private final AccessLogWriter writer;
+
+  public AccessLogWebFilter(AccessLogWriter writer) {
+    this.writer = writer;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!writer.isEnabled()) {
+      return chain.filter(exchange);
+    }
+    AccessLogResponse response = new AccessLogResponse(exchange);
+    exchange.getResponse().beforeCommit(response::onCommit);
+    return chain.filter(exchange.mutate().response(response).build())
+        .doOnError(ex -> response.onError())
+        .doFinally(response::onFinally);
+  }
+
+  private final class AccessLogResponse extends ServerHttpResponseDecorator {
+
+    private final ServerWebExchange exchange;
+    private final long start;
+    private final AtomicBoolean recorded;
+    private volatile long bytes;
+    private volatile long commitNanos;
+    private volatile boolean errorPending;
+    private volatile boolean writing;
+    private volatile boolean completed;
+
+    private AccessLogResponse(ServerWebExchange exchange) {
+      super(exchange.getResponse());
+      this.exchange = exchange;
+      this.start = System.nanoTime();
+      this.recorded = new AtomicBoolean();
+      this.commitNanos = -1;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      writing = true;
+      return super.writeWith(Flux.from(body)
+          .doOnNext(this::count)
+          .doFinally(signal -> onWritten()));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+      writing = true;
+      return super.writeAndFlushWith(Flux.from(body)
+          .map(buffers -> Flux.from(buffers).doOnNext(this::count))
+          .doFinally(signal -> onWritten()));
+    }
+
+    /**
+     * The write may complete before its body is drained, the entry waits for both.
+     */
+    private void onWritten() {
+      writing = false;
+      if (completed) {
+        record(status(), bytes);
+      }
+    }
+
+    private void count(DataBuffer buffer) {
+      bytes += buffer.readableByteCount();
+    }
+
+    private Mono<Void> onCommit() {
+      commitNanos = System.nanoTime() - start;
+      if (errorPending) {
+        record(status(), getHeaders().getContentLength());
+      }
+      return Mono.empty();
+    }
+
+    /**
+     * Runs before the error reaches the exception handler, which renders it on the undecorated
+     * response. An error after the commit can not be rendered anymore and is recorded as is.
+     */
+    private void onError() {
+      if (getDelegate().isCommitted()) {
+        record(status(), bytes);
+      } else {
+        errorPending = true;
+      }
+    }
+
+    private void onFinally(SignalType signal) {
+      if (signal == SignalType.ON_COMPLETE) {
+        completed = true;
+        if (!writing) {
+          record(status(), bytes);
+        }
+      } else if (signal == SignalType.CANCEL) {
+        record(getDelegate().isCommitted() ? status() : CLIENT_CLOSED_REQUEST, bytes);
+      }
+    }
+
+    private int status() {
+      Integer status = getDelegate().getRawStatusCode();
+      return status != null ? status : 200;
+    }
+
+    private void record(int status, long bytes) {
+      if (!recorded.compareAndSet(false, true)) {
+        return;
+      }
+      long commit = commitNanos;
+      long durationNanos = commit >= 0 ? commit : System.nanoTime() - start;
+      ServerHttpRequest request = exchange.getRequest();
+      CoreException coreException =
+          exchange.getAttribute(TyReactiveExceptionHandler.CORE_EXCEPTION_ATTRIBUTE);
+      writer.write(request.getMethodValue(), request.getPath().value(), status, bytes,
+          durationNanos, RequestIdWebFilter.getRequestId(exchange),
+          coreException != null ? coreException.getCode() : null,
+          coreException != null ? coreException.getStatus() : null);
+    }
+  }
+
+}
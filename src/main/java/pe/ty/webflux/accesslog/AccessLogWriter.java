@@ -0,0 +1,170 @@
+package pe.ty.webflux.accesslog;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pe.ty.core.exception.CoreExceptionStatus;
+
+/**
+ * Hands access log records from the request threads to a single background thread that formats
+ * and logs them in batches. When the ring buffer is full the record is dropped and counted, or
+ * written on the calling thread when configured, the drops are reported periodically.
+ */
+public class AccessLogWriter implements AutoCloseable {
+
+  private final static String THREAD_NAME = "ty-access-log";
+  private final static Logger log = LoggerFactory.getLogger(AccessLogWriter.class);
+
+  private final Logger accessLog;
+  private final AccessLogRingBuffer buffer;
+  private final int batchSize;
+  private final long idleParkNanos;
+  private final boolean dropOnFull;
+  private final long dropReportIntervalNanos;
+  private final LongAdder dropped;
+  private final Thread thread;
+  private volatile boolean running;
+  private long reportedDropped;
+
+  public AccessLogWriter(String loggerName, int bufferSize, int batchSize, Duration flushInterval,
+      boolean dropOnFull, Duration dropReportInterval) {
+    this.accessLog = LoggerFactory.getLogger(loggerName);
+    this.buffer = new AccessLogRingBuffer(bufferSize);
+    this.batchSize = batchSize;
+    this.idleParkNanos = flushInterval.toNanos();
+    this.dropOnFull = dropOnFull;
+    this.dropReportIntervalNanos = dropReportInterval.toNanos();
+    this.dropped = new LongAdder();
+    this.running = true;
+    this.thread = new Thread(this::run, THREAD_NAME);
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  public boolean isEnabled() {
+    return accessLog.isInfoEnabled();
+  }
+
+  public void write(String method, String path, int status, long bytes, long durationNanos,
+      String requestId, String errorCode, CoreExceptionStatus errorStatus) {
+    long position = buffer.claim();
+    if (position < 0) {
+      if (dropOnFull) {
+        dropped.increment();
+      } else {
+        AccessLogRecord record = new AccessLogRecord();
+        fill(record, method, path, status, bytes, durationNanos, requestId, errorCode,
+            errorStatus);
+        accessLog.info(format(new StringBuilder(128), record).toString());
+      }
+      return;
+    }
+    fill(buffer.get(position), method, path, status, bytes, durationNanos, requestId, errorCode,
+        errorStatus);
+    buffer.publish(position);
+  }
+
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(thread);
+    try {
+      thread.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void fill(AccessLogRecord record, String method, String path, int status,
+      long bytes, long durationNanos, String requestId, String errorCode,
+      CoreExceptionStatus errorStatus) {
+    record.timestamp = System.currentTimeMillis();
+    record.method = method;
+    record.path = path;
+    record.status = status;
+    record.bytes = bytes;
+    record.durationNanos = durationNanos;
+    record.requestId = requestId;
+    record.errorCode = errorCode;
+    record.errorStatus = errorStatus;
+  }
+
+  private void run() {
+    StringBuilder batch = new StringBuilder(batchSize * 128);
+    long nextDropReport = System.nanoTime() + dropReportIntervalNanos;
+    while (running) {
+      int written = drain(batch);
+      if (dropReportIntervalNanos > 0 && System.nanoTime() - nextDropReport >= 0) {
+        reportDropped();
+        nextDropReport = System.nanoTime() + dropReportIntervalNanos;
+      }
+      if (written == 0) {
+        LockSupport.parkNanos(this, idleParkNanos);
+      }
+    }
+    while (drain(batch) > 0) {
+      // flush what was published before closing
+    }
+    reportDropped();
+  }
+
+  private int drain(StringBuilder batch) {
+    int count = 0;
+    AccessLogRecord record;
+    while (count < batchSize && (record = buffer.poll()) != null) {
+      if (count > 0) {
+        batch.append('\n');
+      }
+      format(batch, record);
+      buffer.release();
+      count++;
+    }
+    if (count > 0) {
+      try {
+        accessLog.info(batch.toString());
+      } catch (RuntimeException e) {
+        log.warn("Access log batch could not be written", e);
+      }
+      batch.setLength(0);
+    }
+    return count;
+  }
+
+  private static StringBuilder format(StringBuilder builder, AccessLogRecord record) {
+    builder.append(Instant.ofEpochMilli(record.timestamp)).append(' ')
+        .append(record.method).append(' ')
+        .append(record.path).append(' ')
+        .append(record.status).append(' ');
+    if (record.bytes < 0) {
+      builder.append('-');
+    } else {
+      builder.append(record.bytes);
+    }
+    builder.append(' ').append(TimeUnit.NANOSECONDS.toMicros(record.durationNanos)).append("us");
+    if (record.requestId != null) {
+      builder.append(" requestId=").append(record.requestId);
+    }
+    if (record.errorCode != null) {
+      builder.append(" error=").append(record.errorCode).append('/').append(record.errorStatus);
+    }
+    return builder;
+  }
+
+  private void reportDropped() {
+    long total = dropped.sum();
+    long count = total - reportedDropped;
+    reportedDropped = total;
+    if (count > 0) {
+      log.warn("Dropped {} access log records, the ring buffer was full", count);
+    }
+  }
+
+}
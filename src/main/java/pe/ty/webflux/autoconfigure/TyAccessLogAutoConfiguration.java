@@ -0,0 +1,39 @@
+package pe.ty.webflux.autoconfigure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import pe.ty.webflux.accesslog.AccessLogWebFilter;
+import pe.ty.webflux.accesslog.AccessLogWriter;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(TyAccessLogProperties.class)
+@ConditionalOnProperty(prefix = "ty.webflux.access-log", name = "enabled")
+public class TyAccessLogAutoConfiguration {
+
+  private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 50;
+
+  @Bean
+  public AccessLogWriter accessLogWriter(TyAccessLogProperties properties) {
+    log.info("Configuring access log with a buffer of {} records...",
+        properties.getBufferSize());
+    return new AccessLogWriter(properties.getLoggerName(), properties.getBufferSize(),
+        properties.getBatchSize(), properties.getFlushInterval(), properties.isDropOnFull(),
+        properties.getDropReportInterval());
+  }
+
+  @Bean
+  @Order(FILTER_ORDER)
+  public AccessLogWebFilter accessLogWebFilter(AccessLogWriter accessLogWriter) {
+    return new AccessLogWebFilter(accessLogWriter);
+  }
+
+}
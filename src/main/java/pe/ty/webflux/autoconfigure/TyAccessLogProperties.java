@@ -0,0 +1,21 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.access-log")
+public class TyAccessLogProperties {
+
+  private boolean enabled = false;
+  private String loggerName = "ty.webflux.access-log";
+  private int bufferSize = 8192;
+  private int batchSize = 256;
+  private Duration flushInterval = Duration.ofMillis(100);
+  private boolean dropOnFull = true;
+  private Duration dropReportInterval = Duration.ofMinutes(1);
+
+}
@@ -0,0 +1,68 @@
+package pe.ty.webflux.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.ty.webflux.blocking.BlockHoundInstaller;
+import pe.ty.webflux.blocking.BlockingMetrics;
+import pe.ty.webflux.blocking.BlockingOffload;
+import pe.ty.webflux.blocking.BlockingSchedulers;
+import pe.ty.webflux.blocking.MicrometerBlockingMetrics;
+import reactor.blockhound.BlockHound;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(TyBlockingProperties.class)
+public class TyBlockingAutoConfiguration {
+
+  private static final String SCHEDULER_NAME = "ty-blocking";
+
+  @Bean
+  @ConditionalOnMissingBean
+  public BlockingMetrics blockingMetrics() {
+    return BlockingMetrics.NONE;
+  }
+
+  @Bean(destroyMethod = "dispose")
+  public BlockingOffload blockingOffload(TyBlockingProperties properties,
+      BlockingMetrics blockingMetrics) {
+    return new BlockingOffload(BlockingSchedulers.create(SCHEDULER_NAME,
+        properties.isVirtualThreads(), properties.getThreadCap(),
+        properties.getQueuedTaskCap()), blockingMetrics);
+  }
+
+  @Configuration
+  @ConditionalOnClass(MeterRegistry.class)
+  static class BlockingMetricsConfiguration {
+
+    @Bean
+    public BlockingMetrics blockingMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+      MeterRegistry registry = meterRegistry.getIfAvailable();
+      if (registry == null) {
+        return BlockingMetrics.NONE;
+      }
+      return new MicrometerBlockingMetrics(registry, SCHEDULER_NAME);
+    }
+  }
+
+  @Configuration
+  @ConditionalOnClass(BlockHound.class)
+  @ConditionalOnProperty(prefix = "ty.webflux.blocking.block-hound", name = "enabled")
+  static class BlockHoundConfiguration {
+
+    @Bean
+    public BlockHoundInstaller blockHoundInstaller() {
+      return new BlockHoundInstaller();
+    }
+  }
+
+}
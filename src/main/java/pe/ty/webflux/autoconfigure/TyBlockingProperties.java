@@ -0,0 +1,24 @@
+package pe.ty.webflux.autoconfigure;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.blocking")
+public class TyBlockingProperties {
+
+  private boolean virtualThreads = true;
+  private int threadCap = 10 * Runtime.getRuntime().availableProcessors();
+  private int queuedTaskCap = 100000;
+  private BlockHound blockHound = new BlockHound();
+
+  @Getter
+  @Setter
+  public static class BlockHound {
+
+    private boolean enabled = false;
+  }
+
+}
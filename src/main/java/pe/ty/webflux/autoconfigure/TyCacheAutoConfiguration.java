@@ -0,0 +1,46 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import pe.ty.webflux.cache.ResponseCache;
+import pe.ty.webflux.cache.ResponseCacheWebFilter;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(TyCacheProperties.class)
+@ConditionalOnProperty(prefix = "ty.webflux.cache", name = "enabled")
+public class TyCacheAutoConfiguration {
+
+  private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 300;
+
+  @Bean
+  public ResponseCache responseCache(TyCacheProperties properties) {
+    return new ResponseCache(properties.getMaxEntries(), properties.getTimeToLive());
+  }
+
+  @Bean
+  @Order(FILTER_ORDER)
+  public ResponseCacheWebFilter responseCacheWebFilter(TyCacheProperties properties,
+      ResponseCache responseCache) {
+    log.info("Configuring response cache for {}...", properties.getPathPatterns());
+    PathPatternParser parser = new PathPatternParser();
+    List<PathPattern> pathPatterns = properties.getPathPatterns().stream()
+        .map(parser::parse)
+        .collect(Collectors.toList());
+    return new ResponseCacheWebFilter(pathPatterns, properties.getVaryHeaders(),
+        (int) properties.getMaxBodySize().toBytes(), responseCache);
+  }
+
+}
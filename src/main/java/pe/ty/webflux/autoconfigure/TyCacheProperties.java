@@ -0,0 +1,26 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.cache")
+public class TyCacheProperties {
+
+  private boolean enabled = false;
+  private List<String> pathPatterns = new ArrayList<>();
+  private List<String> varyHeaders = new ArrayList<>(
+      Arrays.asList(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE));
+  private int maxEntries = 1000;
+  private Duration timeToLive = Duration.ofMinutes(1);
+  private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+}
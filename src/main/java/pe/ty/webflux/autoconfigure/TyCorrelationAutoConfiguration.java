@@ -0,0 +1,30 @@
+package pe.ty.webflux.autoconfigure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import pe.ty.webflux.correlation.RequestIdWebFilter;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(TyCorrelationProperties.class)
+@ConditionalOnProperty(prefix = "ty.webflux.correlation", name = "enabled", matchIfMissing = true)
+public class TyCorrelationAutoConfiguration {
+
+  private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+  @Bean
+  @Order(FILTER_ORDER)
+  public RequestIdWebFilter requestIdWebFilter(TyCorrelationProperties properties) {
+    log.info("Configuring request id propagation...");
+    return new RequestIdWebFilter(properties.getHeaderName());
+  }
+
+}
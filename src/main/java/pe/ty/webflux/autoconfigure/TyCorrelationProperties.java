@@ -0,0 +1,15 @@
+package pe.ty.webflux.autoconfigure;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.correlation")
+public class TyCorrelationProperties {
+
+  private boolean enabled = true;
+  private String headerName = "X-Request-Id";
+
+}
@@ -0,0 +1,63 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.error")
+public class TyErrorProperties {
+
+  private BodyCache bodyCache = new BodyCache();
+  private Metrics metrics = new Metrics();
+  private Logging logging = new Logging();
+  private Streaming streaming = new Streaming();
+  private FastReject fastReject = new FastReject();
+
+  @Getter
+  @Setter
+  public static class BodyCache {
+
+    private boolean enabled = true;
+    private int maxSize = 256;
+    private Duration timeToLive = Duration.ofMinutes(10);
+  }
+
+  @Getter
+  @Setter
+  public static class Metrics {
+
+    private boolean enabled = true;
+    private int maxExceptionTags = 100;
+  }
+
+  @Getter
+  @Setter
+  public static class Logging {
+
+    private double samplingRatio = 1.0d;
+    private double permitsPerSecond = 10.0d;
+    private int burst = 20;
+    private int stackTraceMinHttpStatus = 500;
+    private Duration summaryInterval = Duration.ofMinutes(1);
+  }
+
+  @Getter
+  @Setter
+  public static class Streaming {
+
+    private boolean enabled = true;
+  }
+
+  @Getter
+  @Setter
+  public static class FastReject {
+
+    private boolean enabled = false;
+    private long threshold = 200;
+    private Duration window = Duration.ofSeconds(1);
+  }
+
+}
@@ -1,19 +1,61 @@
 package pe.ty.webflux.autoconfigure;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
 import javax.annotation.PostConstruct;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.MimeType;
+import pe.ty.webflux.autoconfigure.TyJacksonProperties.Accelerator;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Configuration
 @AllArgsConstructor
+@ConditionalOnClass(ObjectMapper.class)
+@ConditionalOnBean(ObjectMapper.class)
+@AutoConfigureAfter(JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(TyJacksonProperties.class)
 public class TyJacksonAutoConfiguration {
 
+  private final static String AFTERBURNER_MODULE =
+      "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+  private final static String BLACKBIRD_MODULE =
+      "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+  private final static MimeType SMILE_MIME_TYPE = new MimeType("application", "x-jackson-smile");
+
   @Getter(AccessLevel.PACKAGE)
   private ObjectMapper mapper;
 
@@ -24,7 +66,161 @@ public class TyJacksonAutoConfiguration {
 
   private void configureObjectMapper() {
     log.info("Configuring ObjectMapper...");
-    mapper.setSerializationInclusion(Include.NON_NULL);
+    configure(mapper);
+  }
+
+  ObjectMapper configure(ObjectMapper objectMapper) {
+    objectMapper.setSerializationInclusion(Include.NON_NULL);
+    return objectMapper;
+  }
+
+  /**
+   * Custom codecs are placed before the default ones, so the JSON encoder is registered first to
+   * keep JSON the negotiated type when the {@code Accept} header is missing or a wildcard.
+   */
+  @Bean
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public CodecCustomizer jsonFirstCodecCustomizer() {
+    return configurer -> configurer.customCodecs().register(new Jackson2JsonEncoder(mapper));
+  }
+
+  /**
+   * The accelerator is added to the {@link Jackson2ObjectMapperBuilder}, so it applies to every
+   * mapper the builder creates (the shared one and the Smile/CBOR ones) instead of mutating the
+   * shared mapper after creation.
+   */
+  @Configuration
+  @ConditionalOnProperty(prefix = "ty.webflux.jackson", name = "accelerator")
+  static class JacksonAcceleratorConfiguration {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jacksonAcceleratorCustomizer(
+        TyJacksonProperties properties) {
+      Class<? extends Module> module = resolveAcceleratorModule(properties.getAccelerator());
+      return builder -> {
+        if (module != null) {
+          builder.modulesToInstall(module);
+        }
+      };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Module> resolveAcceleratorModule(Accelerator accelerator) {
+      String moduleClass = resolveAcceleratorModuleName(accelerator);
+      if (moduleClass == null) {
+        return null;
+      }
+      try {
+        Class<? extends Module> module = (Class<? extends Module>) ClassUtils
+            .forName(moduleClass, JacksonAcceleratorConfiguration.class.getClassLoader());
+        log.info("Registering Jackson accelerator {}", module.getSimpleName());
+        return module;
+      } catch (ClassNotFoundException | LinkageError e) {
+        log.warn("Jackson accelerator {} could not be loaded, using plain reflection",
+            moduleClass, e);
+        return null;
+      }
+    }
+
+    private static String resolveAcceleratorModuleName(Accelerator accelerator) {
+      ClassLoader classLoader = JacksonAcceleratorConfiguration.class.getClassLoader();
+      boolean privateLookup = isPrivateLookupSupported();
+      switch (accelerator) {
+        case NONE:
+          return null;
+        case BLACKBIRD:
+          if (privateLookup && ClassUtils.isPresent(BLACKBIRD_MODULE, classLoader)) {
+            return BLACKBIRD_MODULE;
+          }
+          break;
+        case AFTERBURNER:
+          if (ClassUtils.isPresent(AFTERBURNER_MODULE, classLoader)) {
+            return AFTERBURNER_MODULE;
+          }
+          break;
+        default:
+          if (privateLookup) {
+            if (ClassUtils.isPresent(BLACKBIRD_MODULE, classLoader)) {
+              return BLACKBIRD_MODULE;
+            }
+            log.info("Jackson accelerator AUTO found no Blackbird module on this JDK, "
+                + "no accelerator registered");
+            return null;
+          }
+          if (ClassUtils.isPresent(AFTERBURNER_MODULE, classLoader)) {
+            return AFTERBURNER_MODULE;
+          }
+      }
+      log.warn("Jackson accelerator {} is not available, using plain reflection", accelerator);
+      return null;
+    }
+
+    private static boolean isPrivateLookupSupported() {
+      return ClassUtils.hasMethod(MethodHandles.class, "privateLookupIn", Class.class,
+          MethodHandles.Lookup.class);
+    }
+  }
+
+  @Configuration
+  @ConditionalOnClass(SmileFactory.class)
+  @ConditionalOnProperty(prefix = "ty.webflux.jackson.smile", name = "enabled",
+      matchIfMissing = true)
+  static class SmileCodecConfiguration {
+
+    @Bean
+    public CodecCustomizer smileCodecCustomizer(TyJacksonAutoConfiguration jacksonConfiguration,
+        ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+      log.info("Configuring Smile codecs...");
+      ObjectMapper smileMapper = jacksonConfiguration.configure(builder
+          .getIfAvailable(Jackson2ObjectMapperBuilder::new)
+          .factory(new SmileFactory())
+          .build());
+      return configurer -> {
+        configurer.customCodecs().register(new Jackson2SmileEncoder(smileMapper, SMILE_MIME_TYPE));
+        configurer.customCodecs().register(new Jackson2SmileDecoder(smileMapper, SMILE_MIME_TYPE));
+      };
+    }
+  }
+
+  @Configuration
+  @ConditionalOnClass({CBORFactory.class, Jackson2CborEncoder.class})
+  @ConditionalOnProperty(prefix = "ty.webflux.jackson.cbor", name = "enabled",
+      matchIfMissing = true)
+  static class CborCodecConfiguration {
+
+    @Bean
+    public CodecCustomizer cborCodecCustomizer(TyJacksonAutoConfiguration jacksonConfiguration,
+        ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+      log.info("Configuring CBOR codecs...");
+      ObjectMapper cborMapper = jacksonConfiguration.configure(builder
+          .getIfAvailable(Jackson2ObjectMapperBuilder::new)
+          .factory(new CBORFactory())
+          .build());
+      return configurer -> {
+        configurer.customCodecs().register(
+            new CborValueEncoder(cborMapper, MediaType.APPLICATION_CBOR));
+        configurer.customCodecs().register(
+            new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+      };
+    }
+
+    /**
+     * {@link Jackson2CborEncoder} rejects any publisher, this one writes each element with
+     * {@code encodeValue}, so single values work and a {@code Flux} becomes a CBOR sequence.
+     */
+    private static class CborValueEncoder extends Jackson2CborEncoder {
+
+      private CborValueEncoder(ObjectMapper mapper, MimeType... mimeTypes) {
+        super(mapper, mimeTypes);
+      }
+
+      @Override
+      public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+          ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Flux.from(inputStream)
+            .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints));
+      }
+    }
   }
 
 }
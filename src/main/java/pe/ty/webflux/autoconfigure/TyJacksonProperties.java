@@ -0,0 +1,30 @@
+package pe.ty.webflux.autoconfigure;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.jackson")
+public class TyJacksonProperties {
+
+  private Accelerator accelerator = Accelerator.NONE;
+  private BinaryCodec smile = new BinaryCodec();
+  private BinaryCodec cbor = new BinaryCodec();
+
+  public enum Accelerator {
+    NONE,
+    AUTO,
+    AFTERBURNER,
+    BLACKBIRD
+  }
+
+  @Getter
+  @Setter
+  public static class BinaryCodec {
+
+    private boolean enabled = true;
+  }
+
+}
@@ -0,0 +1,122 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.web.util.pattern.PathPatternParser;
+import pe.ty.webflux.limit.Bulkhead;
+import pe.ty.webflux.limit.ConcurrencyLimitWebFilter;
+import pe.ty.webflux.limit.RequestBodyLimitWebFilter;
+import reactor.netty.http.server.HttpServer;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(TyLimitsProperties.class)
+public class TyLimitsAutoConfiguration {
+
+  private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 200;
+  private static final int CONCURRENCY_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 150;
+  private static final int CODEC_CUSTOMIZER_ORDER = -1;
+  private static final String MAX_HEADER_SIZE_PROPERTY = "ty.webflux.limits.max-header-size";
+  private static final String MAX_HTTP_HEADER_SIZE_PROPERTY = "server.max-http-header-size";
+
+  /**
+   * Runs before the Boot codec customizer, so {@code spring.codec.max-in-memory-size} and any
+   * application customizer still win.
+   */
+  @Bean
+  @Order(CODEC_CUSTOMIZER_ORDER)
+  @ConditionalOnProperty(prefix = "ty.webflux.limits", name = "max-in-memory-size")
+  public CodecCustomizer limitsCodecCustomizer(TyLimitsProperties properties) {
+    int maxInMemorySize = (int) properties.getMaxInMemorySize().toBytes();
+    return configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize);
+  }
+
+  @Bean
+  @Order(FILTER_ORDER)
+  @ConditionalOnProperty(prefix = "ty.webflux.limits", name = "max-request-body")
+  public RequestBodyLimitWebFilter requestBodyLimitWebFilter(TyLimitsProperties properties) {
+    log.info("Configuring request body limit of {}...", properties.getMaxRequestBody());
+    return new RequestBodyLimitWebFilter(properties.getMaxRequestBody().toBytes());
+  }
+
+  @Bean
+  @Order(CONCURRENCY_FILTER_ORDER)
+  @ConditionalOnProperty(prefix = "ty.webflux.limits.concurrency", name = "enabled")
+  public ConcurrencyLimitWebFilter concurrencyLimitWebFilter(TyLimitsProperties properties) {
+    TyLimitsProperties.Concurrency concurrency = properties.getConcurrency();
+    log.info("Configuring concurrency limits for {} routes...", concurrency.getRoutes().size());
+    PathPatternParser parser = new PathPatternParser();
+    List<ConcurrencyLimitWebFilter.Route> routes = concurrency.getRoutes().stream()
+        .map(route -> new ConcurrencyLimitWebFilter.Route(
+            parser.parse(route.getPathPattern()),
+            toBulkhead(route),
+            concurrency.getRejectStatus(),
+            concurrency.getRetryAfter()))
+        .collect(Collectors.toList());
+    return new ConcurrencyLimitWebFilter(routes);
+  }
+
+  private static Bulkhead toBulkhead(TyLimitsProperties.Route route) {
+    TyLimitsProperties.Adaptive adaptive = route.getAdaptive();
+    return new Bulkhead(route.getMaxConcurrent(), route.getMaxWaiting(), route.getMaxWait(),
+        adaptive.isEnabled() ? new Bulkhead.Adaptive(adaptive.getMinConcurrent(),
+            adaptive.getLatencyThreshold(), adaptive.getBackoffRatio(), adaptive.getWindow())
+            : null);
+  }
+
+  @Configuration
+  @ConditionalOnClass({HttpServer.class, NettyReactiveWebServerFactory.class})
+  static class NettyLimitsConfiguration {
+
+    @Bean
+    @Conditional(MaxHeaderSizeCondition.class)
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> nettyLimitsCustomizer(
+        TyLimitsProperties properties) {
+      log.info("Configuring max header size of {}...", properties.getMaxHeaderSize());
+      int maxHeaderSize = (int) properties.getMaxHeaderSize().toBytes();
+      return factory -> factory.addServerCustomizers(httpServer -> httpServer
+          .httpRequestDecoder(spec -> spec.maxHeaderSize(maxHeaderSize)));
+    }
+  }
+
+  /**
+   * Boot always applies {@code server.max-http-header-size} after this customizer, so the limit
+   * is only set when that property is not configured.
+   */
+  static class MaxHeaderSizeCondition extends SpringBootCondition {
+
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context,
+        AnnotatedTypeMetadata metadata) {
+      Environment environment = context.getEnvironment();
+      if (!environment.containsProperty(MAX_HEADER_SIZE_PROPERTY)) {
+        return ConditionOutcome.noMatch(MAX_HEADER_SIZE_PROPERTY + " is not configured");
+      }
+      if (environment.containsProperty(MAX_HTTP_HEADER_SIZE_PROPERTY)) {
+        return ConditionOutcome.noMatch(MAX_HTTP_HEADER_SIZE_PROPERTY + " is configured");
+      }
+      return ConditionOutcome.match(MAX_HEADER_SIZE_PROPERTY + " is configured");
+    }
+  }
+
+}
@@ -0,0 +1,53 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.limits")
+public class TyLimitsProperties {
+
+  private DataSize maxInMemorySize;
+  private DataSize maxHeaderSize;
+  private DataSize maxRequestBody;
+  private Concurrency concurrency = new Concurrency();
+
+  @Getter
+  @Setter
+  public static class Concurrency {
+
+    private boolean enabled = false;
+    private int rejectStatus = 503;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private List<Route> routes = new ArrayList<>();
+  }
+
+  @Getter
+  @Setter
+  public static class Route {
+
+    private String pathPattern;
+    private int maxConcurrent = 100;
+    private int maxWaiting = 0;
+    private Duration maxWait = Duration.ofMillis(500);
+    private Adaptive adaptive = new Adaptive();
+  }
+
+  @Getter
+  @Setter
+  public static class Adaptive {
+
+    private boolean enabled = false;
+    private int minConcurrent = 1;
+    private Duration latencyThreshold = Duration.ofMillis(500);
+    private double backoffRatio = 0.9;
+    private Duration window = Duration.ofSeconds(1);
+  }
+
+}
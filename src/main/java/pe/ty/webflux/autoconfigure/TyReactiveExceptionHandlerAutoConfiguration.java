@@ -1,27 +1,171 @@
 package pe.ty.webflux.autoconfigure;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.info.BuildProperties;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
 import org.springframework.web.server.WebExceptionHandler;
+import pe.ty.core.exception.CoreException;
+import pe.ty.webflux.error.ErrorBodyCache;
+import pe.ty.webflux.error.ErrorHandlingMetrics;
+import pe.ty.webflux.error.ErrorPropertiesResolver;
+import pe.ty.webflux.error.ErrorResponseWriter;
+import pe.ty.webflux.error.FastRejectGuard;
+import pe.ty.webflux.error.StreamingErrorWebFilter;
 import pe.ty.webflux.error.TyReactiveExceptionHandler;
+import pe.ty.webflux.error.handler.CoreHandler;
+import pe.ty.webflux.error.logging.ErrorLogPolicy;
+import pe.ty.webflux.error.metrics.MicrometerErrorHandlingMetrics;
 
 @Slf4j
 @Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@ConditionalOnClass({CoreException.class, WebExceptionHandler.class})
+@AutoConfigureAfter({JacksonAutoConfiguration.class, TyJacksonAutoConfiguration.class})
+@EnableConfigurationProperties(TyErrorProperties.class)
 public class TyReactiveExceptionHandlerAutoConfiguration {
 
   private static final int HANDLER_ORDER = Ordered.HIGHEST_PRECEDENCE + 1000;
+  private static final int STREAMING_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+  private static final String ENVIRONMENT_CHANGE_EVENT =
+      "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+  @Bean
+  public ErrorPropertiesResolver errorPropertiesResolver(Environment environment,
+      ObjectProvider<BuildProperties> buildProperties) {
+    return new ErrorPropertiesResolver(environment, buildProperties::getIfAvailable);
+  }
+
+  @Bean
+  public ErrorBodyCache errorBodyCache(TyErrorProperties properties) {
+    TyErrorProperties.BodyCache bodyCache = properties.getBodyCache();
+    return new ErrorBodyCache(bodyCache.isEnabled() ? bodyCache.getMaxSize() : 0,
+        bodyCache.getTimeToLive());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ErrorHandlingMetrics errorHandlingMetrics() {
+    return ErrorHandlingMetrics.NONE;
+  }
+
+  @Bean
+  public ErrorResponseWriter errorResponseWriter(ServerCodecConfigurer serverCodecConfigurer,
+      ObjectMapper objectMapper, ErrorBodyCache errorBodyCache,
+      ErrorHandlingMetrics errorHandlingMetrics) {
+    return new ErrorResponseWriter(findCodecObjectMappers(serverCodecConfigurer, objectMapper),
+        errorBodyCache, errorHandlingMetrics);
+  }
+
+  @Bean
+  public ErrorLogPolicy errorLogPolicy(TyErrorProperties properties) {
+    TyErrorProperties.Logging logging = properties.getLogging();
+    return new ErrorLogPolicy(logging.getSamplingRatio(), logging.getPermitsPerSecond(),
+        logging.getBurst(), logging.getStackTraceMinHttpStatus(), logging.getSummaryInterval());
+  }
 
   @Bean
   @Order(HANDLER_ORDER)
-  public WebExceptionHandler exceptionHandler(Environment environment,
-      BuildProperties buildProperties) {
+  public TyReactiveExceptionHandler exceptionHandler(ErrorPropertiesResolver errorPropertiesResolver,
+      ObjectProvider<CoreHandler<? extends Throwable>> coreHandlers,
+      ErrorResponseWriter errorResponseWriter, ErrorHandlingMetrics errorHandlingMetrics,
+      ErrorLogPolicy errorLogPolicy, TyErrorProperties properties) {
     log.info("Configuring Custom Exception Handler...");
-    return new TyReactiveExceptionHandler(environment, buildProperties);
+    TyErrorProperties.FastReject fastReject = properties.getFastReject();
+    return new TyReactiveExceptionHandler(errorPropertiesResolver,
+        coreHandlers.orderedStream().collect(Collectors.toList()), errorResponseWriter,
+        errorHandlingMetrics, errorLogPolicy, fastReject.isEnabled()
+        ? new FastRejectGuard(fastReject.getThreshold(), fastReject.getWindow())
+        : FastRejectGuard.DISABLED);
+  }
+
+  @Bean
+  @Order(STREAMING_FILTER_ORDER)
+  @ConditionalOnProperty(prefix = "ty.webflux.error.streaming", name = "enabled",
+      matchIfMissing = true)
+  public StreamingErrorWebFilter streamingErrorWebFilter(
+      TyReactiveExceptionHandler exceptionHandler, ObjectMapper objectMapper) {
+    return new StreamingErrorWebFilter(exceptionHandler, objectMapper);
+  }
+
+  private Map<MediaType, ObjectMapper> findCodecObjectMappers(
+      ServerCodecConfigurer serverCodecConfigurer, ObjectMapper defaultMapper) {
+    List<AbstractJackson2Encoder> encoders = serverCodecConfigurer.getWriters().stream()
+        .filter(EncoderHttpMessageWriter.class::isInstance)
+        .map(writer -> ((EncoderHttpMessageWriter<?>) writer).getEncoder())
+        .filter(AbstractJackson2Encoder.class::isInstance)
+        .map(AbstractJackson2Encoder.class::cast)
+        .collect(Collectors.toList());
+    Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+    mappers.put(MediaType.APPLICATION_JSON, encoders.stream()
+        .filter(encoder -> encoder.getEncodableMimeTypes().contains(MediaType.APPLICATION_JSON))
+        .map(AbstractJackson2Encoder::getObjectMapper)
+        .findFirst()
+        .orElse(defaultMapper));
+    encoders.forEach(encoder -> encoder.getEncodableMimeTypes().stream()
+        .filter(mimeType -> !mimeType.isWildcardSubtype())
+        .forEach(mimeType -> mappers.putIfAbsent(
+            new MediaType(mimeType.getType(), mimeType.getSubtype()),
+            encoder.getObjectMapper())));
+    return mappers;
+  }
+
+  @Configuration
+  @ConditionalOnClass(MeterRegistry.class)
+  @ConditionalOnProperty(prefix = "ty.webflux.error.metrics", name = "enabled",
+      matchIfMissing = true)
+  static class ErrorHandlingMetricsConfiguration {
+
+    @Bean
+    public ErrorHandlingMetrics errorHandlingMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+        TyErrorProperties properties) {
+      MeterRegistry registry = meterRegistry.getIfAvailable();
+      if (registry == null) {
+        return ErrorHandlingMetrics.NONE;
+      }
+      log.info("Configuring exception handler metrics...");
+      return new MicrometerErrorHandlingMetrics(registry,
+          properties.getMetrics().getMaxExceptionTags());
+    }
+  }
+
+  @Configuration
+  @ConditionalOnClass(name = ENVIRONMENT_CHANGE_EVENT)
+  static class ErrorPropertiesRefreshConfiguration {
+
+    @Bean
+    public ApplicationListener<ApplicationEvent> errorPropertiesRefreshListener(
+        ErrorPropertiesResolver errorPropertiesResolver) {
+      return event -> {
+        if (ENVIRONMENT_CHANGE_EVENT.equals(event.getClass().getName())) {
+          errorPropertiesResolver.refresh();
+        }
+      };
+    }
   }
 
 }
@@ -0,0 +1,54 @@
+package pe.ty.webflux.autoconfigure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.ty.webflux.server.TyNettyServerCustomizer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@ConditionalOnClass({HttpServer.class, NettyReactiveWebServerFactory.class})
+@EnableConfigurationProperties(TyServerProperties.class)
+public class TyServerAutoConfiguration {
+
+  private static final String LOOP_PREFIX = "ty-http";
+
+  @Bean(destroyMethod = "dispose")
+  @ConditionalOnProperty(prefix = "ty.webflux.server", name = "event-loop-threads")
+  public LoopResources tyServerLoopResources(TyServerProperties properties) {
+    log.info("Configuring {} server event loop threads...", properties.getEventLoopThreads());
+    return LoopResources.create(LOOP_PREFIX, properties.getEventLoopThreads(), true);
+  }
+
+  @Bean
+  public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> tyNettyServerCustomizer(
+      TyServerProperties properties, ObjectProvider<LoopResources> loopResources) {
+    TyServerProperties.Compression compression = properties.getCompression();
+    if (properties.isPreferNative() && !LoopResources.hasNativeSupport()) {
+      log.warn("Native transport preferred but not available, the server runs on NIO");
+    }
+    TyNettyServerCustomizer customizer = TyNettyServerCustomizer.builder()
+        .loopResources(loopResources.getIfAvailable())
+        .preferNative(properties.isPreferNative())
+        .soBacklog(properties.getSoBacklog())
+        .tcpNoDelay(properties.isTcpNoDelay())
+        .idleTimeout(properties.getIdleTimeout())
+        .h2c(properties.isH2c())
+        .compressionMinResponseSize(compression.isEnabled()
+            ? (int) compression.getMinResponseSize().toBytes() : null)
+        .build();
+    return factory -> factory.addServerCustomizers(customizer);
+  }
+
+}
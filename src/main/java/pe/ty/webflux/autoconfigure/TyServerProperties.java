@@ -0,0 +1,30 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.server")
+public class TyServerProperties {
+
+  private Integer eventLoopThreads;
+  private boolean preferNative = true;
+  private Integer soBacklog;
+  private boolean tcpNoDelay = true;
+  private Duration idleTimeout;
+  private boolean h2c = false;
+  private Compression compression = new Compression();
+
+  @Getter
+  @Setter
+  public static class Compression {
+
+    private boolean enabled = false;
+    private DataSize minResponseSize = DataSize.ofKilobytes(2);
+  }
+
+}
@@ -0,0 +1,47 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.Assert;
+import org.springframework.web.util.pattern.PathPatternParser;
+import pe.ty.webflux.timeout.RequestTimeoutWebFilter;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(TyTimeoutProperties.class)
+@ConditionalOnProperty(prefix = "ty.webflux.timeout", name = "enabled")
+public class TyTimeoutAutoConfiguration {
+
+  private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 120;
+
+  @Bean
+  @Order(FILTER_ORDER)
+  public RequestTimeoutWebFilter requestTimeoutWebFilter(TyTimeoutProperties properties) {
+    log.info("Configuring request timeouts, default {} and {} routes...",
+        properties.getDefaultTimeout(), properties.getRoutes().size());
+    PathPatternParser parser = new PathPatternParser();
+    List<RequestTimeoutWebFilter.Route> routes = new ArrayList<>();
+    for (int i = 0; i < properties.getRoutes().size(); i++) {
+      TyTimeoutProperties.Route route = properties.getRoutes().get(i);
+      Assert.hasText(route.getPathPattern(),
+          "ty.webflux.timeout.routes[" + i + "].path-pattern must be set");
+      Duration timeout = route.getTimeout() != null ? route.getTimeout() : Duration.ZERO;
+      routes.add(RequestTimeoutWebFilter.Route.of(parser.parse(route.getPathPattern()), timeout));
+    }
+    Duration defaultTimeout = properties.getDefaultTimeout();
+    return new RequestTimeoutWebFilter(routes, defaultTimeout == null ? null
+        : RequestTimeoutWebFilter.Route.of(null, defaultTimeout));
+  }
+
+}
@@ -0,0 +1,27 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.timeout")
+public class TyTimeoutProperties {
+
+  private boolean enabled = false;
+  private Duration defaultTimeout;
+  private List<Route> routes = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Route {
+
+    private String pathPattern;
+    private Duration timeout;
+  }
+
+}
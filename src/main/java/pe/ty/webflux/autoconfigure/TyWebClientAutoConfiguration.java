@@ -0,0 +1,70 @@
+package pe.ty.webflux.autoconfigure;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.ClientHttpConnectorAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import pe.ty.webflux.client.CoreExceptionExchangeFilterFunction;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Shared connection pool and timeouts for every {@link WebClient} built from the auto-configured
+ * {@link WebClient.Builder}, codecs are already tuned through the registered codec customizers.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass({WebClient.class, HttpClient.class})
+@AutoConfigureBefore(ClientHttpConnectorAutoConfiguration.class)
+@EnableConfigurationProperties(TyWebClientProperties.class)
+@ConditionalOnProperty(prefix = "ty.webflux.client", name = "enabled", matchIfMissing = true)
+public class TyWebClientAutoConfiguration {
+
+  private static final String POOL_NAME = "ty-webclient";
+
+  @Bean(destroyMethod = "dispose")
+  @ConditionalOnMissingBean
+  public ConnectionProvider tyConnectionProvider(TyWebClientProperties properties) {
+    TyWebClientProperties.Pool pool = properties.getPool();
+    log.info("Configuring WebClient connection pool of {} connections...",
+        pool.getMaxConnections());
+    return ConnectionProvider.builder(POOL_NAME)
+        .maxConnections(pool.getMaxConnections())
+        .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+        .maxIdleTime(pool.getMaxIdleTime())
+        .build();
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(ClientHttpConnector.class)
+  public ReactorClientHttpConnector tyClientHttpConnector(TyWebClientProperties properties,
+      ConnectionProvider connectionProvider) {
+    int connectTimeout = (int) properties.getConnectTimeout().toMillis();
+    HttpClient httpClient = HttpClient.create(connectionProvider)
+        .tcpConfiguration(tcpClient -> tcpClient
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout));
+    return new ReactorClientHttpConnector(httpClient);
+  }
+
+  @Bean
+  public WebClientCustomizer tyWebClientCustomizer(TyWebClientProperties properties) {
+    if (properties.getErrorMapping().isEnabled()) {
+      log.info("Configuring WebClient error mapping...");
+    }
+    CoreExceptionExchangeFilterFunction filter = new CoreExceptionExchangeFilterFunction(
+        properties.getResponseTimeout(), properties.getErrorMapping().isEnabled());
+    return builder -> builder.filter(filter);
+  }
+
+}
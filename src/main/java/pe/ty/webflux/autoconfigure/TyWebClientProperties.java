@@ -0,0 +1,36 @@
+package pe.ty.webflux.autoconfigure;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ty.webflux.client")
+public class TyWebClientProperties {
+
+  private boolean enabled = true;
+  private Duration connectTimeout = Duration.ofSeconds(2);
+  private Duration responseTimeout = Duration.ofSeconds(10);
+  private Pool pool = new Pool();
+  private ErrorMapping errorMapping = new ErrorMapping();
+
+  @Getter
+  @Setter
+  public static class Pool {
+
+    private int maxConnections = 500;
+    private int pendingAcquireMaxCount = 1000;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+  }
+
+  @Getter
+  @Setter
+  public static class ErrorMapping {
+
+    private boolean enabled = false;
+  }
+
+}
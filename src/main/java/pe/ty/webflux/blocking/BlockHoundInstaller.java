@@ -0,0 +1,21 @@
+package pe.ty.webflux.blocking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import reactor.blockhound.BlockHound;
+
+/**
+ * Installs BlockHound once the application is ready, from then on blocking calls on event loop
+ * threads fail. Meant for development and test environments only.
+ */
+@Slf4j
+public class BlockHoundInstaller implements ApplicationListener<ApplicationReadyEvent> {
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    log.info("Installing BlockHound, blocking calls on event loop threads will fail...");
+    BlockHound.install();
+  }
+
+}
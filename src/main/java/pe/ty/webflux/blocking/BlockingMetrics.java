@@ -0,0 +1,10 @@
+package pe.ty.webflux.blocking;
+
+public interface BlockingMetrics {
+
+  BlockingMetrics NONE = (waitNanos, runNanos, failed) -> {
+  };
+
+  void recordTask(long waitNanos, long runNanos, boolean failed);
+
+}
@@ -0,0 +1,63 @@
+package pe.ty.webflux.blocking;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Runs blocking code away from the event loop. Annotated controllers wrap their calls with
+ * {@link #fromCallable(Callable)}, functional routes use {@link #filter()} or
+ * {@link #offload(HandlerFunction)} so the whole handler is subscribed on the blocking scheduler.
+ * Every offloaded task is reported to the {@link BlockingMetrics}.
+ */
+public class BlockingOffload {
+
+  private final Scheduler scheduler;
+  private final BlockingMetrics metrics;
+
+  public BlockingOffload(Scheduler scheduler, BlockingMetrics metrics) {
+    this.scheduler = scheduler;
+    this.metrics = metrics;
+  }
+
+  public <T> Mono<T> fromCallable(Callable<? extends T> callable) {
+    return metered(() -> Mono.fromCallable(callable));
+  }
+
+  public <T extends ServerResponse> HandlerFunction<T> offload(HandlerFunction<T> handler) {
+    return request -> metered(() -> handler.handle(request));
+  }
+
+  public HandlerFilterFunction<ServerResponse, ServerResponse> filter() {
+    return (request, next) -> metered(() -> next.handle(request));
+  }
+
+  public Scheduler getScheduler() {
+    return scheduler;
+  }
+
+  public void dispose() {
+    scheduler.dispose();
+  }
+
+  /**
+   * Records the wait from the subscription to the start on the blocking scheduler, and the time
+   * until the offloaded publisher terminates.
+   */
+  private <T> Mono<T> metered(Supplier<Mono<T>> source) {
+    return Mono.defer(() -> {
+      long submitted = System.nanoTime();
+      return Mono.defer(() -> {
+        long start = System.nanoTime();
+        return Mono.defer(source).doFinally(signal -> metrics.recordTask(start - submitted,
+            System.nanoTime() - start, signal == SignalType.ON_ERROR));
+      }).subscribeOn(scheduler);
+    });
+  }
+
+}
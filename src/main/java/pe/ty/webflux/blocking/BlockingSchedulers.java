@@ -0,0 +1,48 @@
+package pe.ty.webflux.blocking;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Creates the scheduler for blocking work: a virtual thread per task executor when the runtime
+ * provides one (Java 21+), a bounded elastic scheduler otherwise.
+ */
+@Slf4j
+public final class BlockingSchedulers {
+
+  private final static String VIRTUAL_THREAD_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+  private BlockingSchedulers() {
+  }
+
+  public static Scheduler create(String name, boolean virtualThreads, int threadCap,
+      int queuedTaskCap) {
+    if (virtualThreads) {
+      ExecutorService executor = virtualThreadExecutor();
+      if (executor != null) {
+        log.info("Offloading blocking calls to virtual threads...");
+        return Schedulers.fromExecutorService(executor, name);
+      }
+    }
+    log.info("Offloading blocking calls to a bounded elastic scheduler of {} threads...",
+        threadCap);
+    return Schedulers.newBoundedElastic(threadCap, queuedTaskCap, name);
+  }
+
+  private static ExecutorService virtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod(VIRTUAL_THREAD_FACTORY_METHOD);
+      return (ExecutorService) factory.invoke(null);
+    } catch (NoSuchMethodException ex) {
+      return null;
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      log.debug("Virtual threads not available: {}", ex.toString());
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,39 @@
+package pe.ty.webflux.blocking;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+public class MicrometerBlockingMetrics implements BlockingMetrics {
+
+  private final static String METRIC_PREFIX = "ty.webflux.blocking";
+
+  private final Timer waitTimer;
+  private final Timer runTimer;
+  private final Counter failures;
+
+  public MicrometerBlockingMetrics(MeterRegistry registry, String schedulerName) {
+    this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+        .description("Time blocking tasks waited for a worker")
+        .tag("scheduler", schedulerName)
+        .register(registry);
+    this.runTimer = Timer.builder(METRIC_PREFIX + ".execution")
+        .description("Execution time of blocking tasks")
+        .tag("scheduler", schedulerName)
+        .register(registry);
+    this.failures = Counter.builder(METRIC_PREFIX + ".failures")
+        .tag("scheduler", schedulerName)
+        .register(registry);
+  }
+
+  @Override
+  public void recordTask(long waitNanos, long runNanos, boolean failed) {
+    waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    runTimer.record(runNanos, TimeUnit.NANOSECONDS);
+    if (failed) {
+      failures.increment();
+    }
+  }
+
+}
@@ -0,0 +1,102 @@
+package pe.ty.webflux.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Bounded store of encoded responses keyed on method, path, query and the selected request
+ * headers. Every entry shares the same time to live, so entries are evicted in insertion order
+ * which is also their expiration order. Entries older than the time to live are ignored.
+ */
+public class ResponseCache {
+
+  private final int maxEntries;
+  private final long timeToLiveNanos;
+  private final ConcurrentMap<ResponseKey, CachedResponse> responses;
+  private final Queue<CachedResponse> insertionOrder;
+
+  public ResponseCache(int maxEntries, Duration timeToLive) {
+    this.maxEntries = maxEntries;
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.responses = new ConcurrentHashMap<>();
+    this.insertionOrder = new ConcurrentLinkedQueue<>();
+  }
+
+  public CachedResponse get(ResponseKey key) {
+    CachedResponse response = responses.get(key);
+    if (response == null) {
+      return null;
+    }
+    if (isExpired(response, System.nanoTime())) {
+      responses.remove(key, response);
+      return null;
+    }
+    return response;
+  }
+
+  public void put(ResponseKey key, CachedResponse response) {
+    response.key = key;
+    long now = System.nanoTime();
+    CachedResponse oldest;
+    while ((oldest = insertionOrder.peek()) != null
+        && (responses.size() >= maxEntries || isExpired(oldest, now)
+        || responses.get(oldest.key) != oldest)) {
+      if (insertionOrder.remove(oldest)) {
+        responses.remove(oldest.key, oldest);
+      }
+    }
+    responses.put(key, response);
+    insertionOrder.offer(response);
+  }
+
+  public int size() {
+    return responses.size();
+  }
+
+  private boolean isExpired(CachedResponse response, long now) {
+    return timeToLiveNanos > 0 && now - response.createdAt > timeToLiveNanos;
+  }
+
+  @Getter
+  public static class CachedResponse {
+
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final String etag;
+    private final long createdAt;
+    @Getter(AccessLevel.NONE)
+    private volatile ResponseKey key;
+
+    public CachedResponse(HttpHeaders headers, byte[] body, String etag) {
+      this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+      this.body = body;
+      this.etag = etag;
+      this.createdAt = System.nanoTime();
+    }
+  }
+
+  @EqualsAndHashCode
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  public static class ResponseKey {
+
+    private final String method;
+    private final String path;
+    private final String query;
+    private final List<String> varyValues;
+
+    public static ResponseKey of(String method, String path, String query,
+        List<String> varyValues) {
+      return new ResponseKey(method, path, query, varyValues);
+    }
+  }
+
+}
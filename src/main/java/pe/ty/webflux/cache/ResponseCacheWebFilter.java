@@ -0,0 +1,202 @@
+package pe.ty.webflux.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import pe.ty.webflux.cache.ResponseCache.CachedResponse;
+import pe.ty.webflux.cache.ResponseCache.ResponseKey;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches successful {@code GET} responses of the configured path patterns with a strong
+ * {@code ETag} computed over the encoded body. Hits are served without invoking the handler and
+ * a matching {@code If-None-Match} is answered with {@code 304 Not Modified}. Requests carrying
+ * credentials are never cached, and only responses with a known {@code Content-Length} are,
+ * streaming responses are written through.
+ */
+public class ResponseCacheWebFilter implements WebFilter {
+
+  private final static String NO_STORE = "no-store";
+  private final static String ANY_ETAG = "*";
+
+  private final List<PathPattern> pathPatterns;
+  private final List<String> varyHeaders;
+  private final int maxBodySize;
+  private final ResponseCache cache;
+
+  public ResponseCacheWebFilter(List<PathPattern> pathPatterns, List<String> varyHeaders,
+      int maxBodySize, ResponseCache cache) {
+    this.pathPatterns = pathPatterns;
+    this.varyHeaders = varyHeaders;
+    this.maxBodySize = maxBodySize;
+    this.cache = cache;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    ServerHttpRequest request = exchange.getRequest();
+    if (request.getMethod() != HttpMethod.GET || hasCredentials(request) || !matches(request)) {
+      return chain.filter(exchange);
+    }
+    ResponseKey key = toKey(request);
+    CachedResponse cached = cache.get(key);
+    if (cached != null) {
+      return writeCached(exchange, cached);
+    }
+    return chain.filter(exchange.mutate()
+        .response(new CachingResponse(exchange, key))
+        .build());
+  }
+
+  private boolean matches(ServerHttpRequest request) {
+    PathContainer path = request.getPath().pathWithinApplication();
+    for (PathPattern pattern : pathPatterns) {
+      if (pattern.matches(path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasCredentials(ServerHttpRequest request) {
+    HttpHeaders headers = request.getHeaders();
+    return headers.containsKey(HttpHeaders.AUTHORIZATION)
+        || headers.containsKey(HttpHeaders.COOKIE);
+  }
+
+  private ResponseKey toKey(ServerHttpRequest request) {
+    HttpHeaders headers = request.getHeaders();
+    List<String> varyValues = new ArrayList<>(varyHeaders.size());
+    for (String header : varyHeaders) {
+      varyValues.add(headers.getFirst(header));
+    }
+    return ResponseKey.of(request.getMethodValue(), request.getPath().value(),
+        request.getURI().getRawQuery(), varyValues);
+  }
+
+  private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+    ServerHttpResponse response = exchange.getResponse();
+    HttpHeaders headers = response.getHeaders();
+    cached.getHeaders().forEach((name, values) -> {
+      if (!headers.containsKey(name)) {
+        headers.put(name, new ArrayList<>(values));
+      }
+    });
+    addVary(headers);
+    headers.setETag(cached.getEtag());
+    if (isNotModified(exchange.getRequest(), cached.getEtag())) {
+      response.setStatusCode(HttpStatus.NOT_MODIFIED);
+      headers.remove(HttpHeaders.CONTENT_LENGTH);
+      return response.setComplete();
+    }
+    response.setStatusCode(HttpStatus.OK);
+    headers.setContentLength(cached.getBody().length);
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+  }
+
+  /**
+   * Cached variants are keyed on the vary headers, downstream caches must key on them too.
+   */
+  private void addVary(HttpHeaders headers) {
+    List<String> vary = headers.getVary();
+    List<String> merged = null;
+    for (String header : varyHeaders) {
+      if (!containsIgnoreCase(vary, header)) {
+        if (merged == null) {
+          merged = new ArrayList<>(vary);
+        }
+        merged.add(header);
+      }
+    }
+    if (merged != null) {
+      headers.setVary(merged);
+    }
+  }
+
+  private static boolean containsIgnoreCase(List<String> values, String value) {
+    for (String candidate : values) {
+      if (candidate.equalsIgnoreCase(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isNotModified(ServerHttpRequest request, String etag) {
+    List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+    return ifNoneMatch.contains(etag) || ifNoneMatch.contains(ANY_ETAG);
+  }
+
+  private boolean isCacheable(ServerHttpResponse response) {
+    HttpStatus status = response.getStatusCode();
+    HttpHeaders headers = response.getHeaders();
+    String cacheControl = headers.getCacheControl();
+    long contentLength = headers.getContentLength();
+    return (status == null || status == HttpStatus.OK)
+        && contentLength >= 0 && contentLength <= maxBodySize
+        && !MediaType.TEXT_EVENT_STREAM.isCompatibleWith(headers.getContentType())
+        && !headers.containsKey(HttpHeaders.SET_COOKIE) && response.getCookies().isEmpty()
+        && (cacheControl == null || !cacheControl.contains(NO_STORE));
+  }
+
+  private class CachingResponse extends ServerHttpResponseDecorator {
+
+    private final ServerWebExchange exchange;
+    private final ResponseKey key;
+
+    private CachingResponse(ServerWebExchange exchange, ResponseKey key) {
+      super(exchange.getResponse());
+      this.exchange = exchange;
+      this.key = key;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      if (!isCacheable(getDelegate())) {
+        return super.writeWith(body);
+      }
+      return DataBufferUtils.join(body).flatMap(buffer -> {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+        HttpHeaders headers = getDelegate().getHeaders();
+        addVary(headers);
+        headers.setETag(etag);
+        cache.put(key, new CachedResponse(cacheableHeaders(headers), bytes, etag));
+        if (isNotModified(exchange.getRequest(), etag)) {
+          getDelegate().setStatusCode(HttpStatus.NOT_MODIFIED);
+          headers.remove(HttpHeaders.CONTENT_LENGTH);
+          return getDelegate().setComplete();
+        }
+        headers.setContentLength(bytes.length);
+        return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+      });
+    }
+
+    private HttpHeaders cacheableHeaders(HttpHeaders headers) {
+      HttpHeaders copy = new HttpHeaders();
+      copy.putAll(headers);
+      copy.remove(HttpHeaders.CONTENT_LENGTH);
+      copy.remove(HttpHeaders.ETAG);
+      copy.remove(HttpHeaders.DATE);
+      return copy;
+    }
+  }
+
+}
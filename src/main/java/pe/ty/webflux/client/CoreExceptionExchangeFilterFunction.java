@@ -0,0 +1,103 @@
+package pe.ty.webflux.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.netty.channel.ConnectTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bounds the wait for a downstream response and turns timeouts, connection failures and error
+ * responses into {@link CoreException}s so they are rendered by the exception handler. The
+ * rendered message only names the method and host, the full URL and the downstream details are
+ * kept in the cause.
+ */
+public class CoreExceptionExchangeFilterFunction implements ExchangeFilterFunction {
+
+  private final Duration responseTimeout;
+  private final boolean errorMapping;
+
+  public CoreExceptionExchangeFilterFunction(Duration responseTimeout, boolean errorMapping) {
+    this.responseTimeout = responseTimeout;
+    this.errorMapping = errorMapping;
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+    Mono<ClientResponse> response = next.exchange(request);
+    if (responseTimeout != null) {
+      response = response.timeout(responseTimeout);
+    }
+    if (!errorMapping) {
+      return response;
+    }
+    return response
+        .onErrorMap(ex -> !(ex instanceof CoreException), ex -> mapError(request, ex))
+        .flatMap(clientResponse -> clientResponse.rawStatusCode() < 400
+            ? Mono.just(clientResponse) : mapErrorResponse(request, clientResponse));
+  }
+
+  private CoreException mapError(ClientRequest request, Throwable ex) {
+    boolean timeout = ex instanceof TimeoutException || ex instanceof ConnectTimeoutException;
+    return CoreException.builder()
+        .status(timeout ? CoreExceptionStatus.TIMEOUT : CoreExceptionStatus.EXTERNAL_ERROR)
+        .message(describe(request) + (timeout ? " timed out" : " failed"))
+        .cause(ex)
+        .resolved(true)
+        .build();
+  }
+
+  private Mono<ClientResponse> mapErrorResponse(ClientRequest request, ClientResponse response) {
+    int httpStatus = response.rawStatusCode();
+    return response.bodyToMono(DownstreamErrorBody.class)
+        .onErrorResume(ex -> Mono.empty())
+        .defaultIfEmpty(new DownstreamErrorBody())
+        .flatMap(body -> Mono.error(CoreException.builder()
+            .status(httpStatus == 504 || httpStatus == 408
+                ? CoreExceptionStatus.TIMEOUT : CoreExceptionStatus.EXTERNAL_ERROR)
+            .message(describe(request) + " responded " + httpStatus)
+            .cause(responseException(request, response, body))
+            .resolved(true)
+            .build()));
+  }
+
+  private static WebClientResponseException responseException(ClientRequest request,
+      ClientResponse response, DownstreamErrorBody body) {
+    int httpStatus = response.rawStatusCode();
+    HttpStatus status = HttpStatus.resolve(httpStatus);
+    return new WebClientResponseException("Downstream HTTP " + request.method() + " \""
+        + request.url() + "\" responded " + httpStatus
+        + (StringUtils.hasText(body.getCode()) ? " [" + body.getCode() + "]" : "")
+        + (StringUtils.hasText(body.getMessage()) ? ": " + body.getMessage() : "")
+        + (StringUtils.hasText(body.getComponent()) ? " (" + body.getComponent() + ")" : ""),
+        httpStatus, status != null ? status.getReasonPhrase() : "",
+        response.headers().asHttpHeaders(), null, null);
+  }
+
+  private static String describe(ClientRequest request) {
+    String host = request.url().getHost();
+    return "Downstream HTTP " + request.method() + (host != null ? " " + host : "");
+  }
+
+  @Getter
+  @Setter
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  static class DownstreamErrorBody {
+
+    private String code;
+    private String message;
+    private String component;
+  }
+
+}
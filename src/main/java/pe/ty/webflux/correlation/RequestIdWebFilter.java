@@ -0,0 +1,68 @@
+package pe.ty.webflux.correlation;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Reads the request id header or creates a new one, and publishes it as an exchange attribute,
+ * in the Reactor {@link Context} and as a response header. No thread locals are involved.
+ */
+public class RequestIdWebFilter implements WebFilter {
+
+  public final static String REQUEST_ID_ATTRIBUTE = RequestIdWebFilter.class.getName() + ".ID";
+  public final static String REQUEST_ID_CONTEXT_KEY = REQUEST_ID_ATTRIBUTE;
+  public final static String MDC_KEY = "requestId";
+  private final static int MAX_REQUEST_ID_LENGTH = 128;
+
+  private final String headerName;
+
+  public RequestIdWebFilter(String headerName) {
+    this.headerName = headerName;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    String requestId = exchange.getRequest().getHeaders().getFirst(headerName);
+    if (!isValid(requestId)) {
+      requestId = newRequestId();
+    }
+    exchange.getAttributes().put(REQUEST_ID_ATTRIBUTE, requestId);
+    exchange.getResponse().getHeaders().set(headerName, requestId);
+    return chain.filter(exchange)
+        .subscriberContext(Context.of(REQUEST_ID_CONTEXT_KEY, requestId));
+  }
+
+  public static String getRequestId(ServerWebExchange exchange) {
+    return exchange.getAttribute(REQUEST_ID_ATTRIBUTE);
+  }
+
+  public static Mono<String> currentRequestId() {
+    return Mono.subscriberContext()
+        .filter(context -> context.hasKey(REQUEST_ID_CONTEXT_KEY))
+        .map(context -> context.get(REQUEST_ID_CONTEXT_KEY));
+  }
+
+  private static String newRequestId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return new UUID(random.nextLong(), random.nextLong()).toString();
+  }
+
+  private static boolean isValid(String requestId) {
+    if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < requestId.length(); i++) {
+      char c = requestId.charAt(i);
+      if (!(Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.' || c == ':')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
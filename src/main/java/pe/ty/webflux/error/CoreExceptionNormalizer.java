@@ -0,0 +1,119 @@
+package pe.ty.webflux.error;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreException.CoreExceptionBuilder;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.core.exception.CoreExceptionType;
+import pe.ty.webflux.error.message.ErrorMessages;
+import pe.ty.webflux.error.message.MessageTemplate;
+
+/**
+ * Fills status, code, message, component and error type of a {@link CoreException} in a single
+ * pass, the exception is rebuilt at most once and returned as is when already complete. Messages
+ * come from the compiled {@link ErrorMessages} of the request locale.
+ */
+public class CoreExceptionNormalizer {
+
+  public final static String DEFAULT_CORE_ERROR_CODE = "ER9999";
+  public final static String DEFAULT_CORE_ERROR_MESSAGE = "No description configured.";
+
+  private final ErrorPropertiesResolver propertiesResolver;
+
+  public CoreExceptionNormalizer(ErrorPropertiesResolver propertiesResolver) {
+    this.propertiesResolver = propertiesResolver;
+  }
+
+  public CoreException normalize(CoreException ex) {
+    return normalize(ex, propertiesResolver.getMessages(null));
+  }
+
+  public CoreException normalize(CoreException ex, ErrorMessages messages) {
+    return normalize(ex, messages, null);
+  }
+
+  /**
+   * Message templates are rendered with the resolved {@code code} and HTTP {@code status}, plus
+   * the request {@code method} and {@code path} when an exchange is given.
+   */
+  public CoreException normalize(CoreException ex, ErrorMessages messages,
+      ServerWebExchange exchange) {
+    boolean resolved = ex.isResolved();
+    CoreExceptionStatus status = ex.getStatus();
+    String code = ex.getCode();
+    String message = ex.getMessage();
+    String component = ex.getComponent();
+    CoreExceptionType errorType = ex.getErrorType();
+    if (resolved && status != null && errorType != null && !StringUtils.isEmpty(code)
+        && !StringUtils.isEmpty(message) && !StringUtils.isEmpty(component)) {
+      return ex;
+    }
+    CoreExceptionBuilder builder = ex.toBuilder().resolved(true);
+    if (status == null) {
+      status = CoreExceptionStatus.UNEXPECTED;
+      builder.status(status);
+    }
+    if (StringUtils.isEmpty(code) || !resolved) {
+      code = propertiesResolver.getCode(status);
+    }
+    code = StringUtils.isEmpty(code) ? DEFAULT_CORE_ERROR_CODE : code;
+    builder.code(code);
+    if (StringUtils.isEmpty(message) || !resolved) {
+      MessageTemplate template = messages.getMessage(status, code);
+      message = template != null ? render(template, ex, status, code, exchange) : null;
+    }
+    builder.message(StringUtils.isEmpty(message) ? DEFAULT_CORE_ERROR_MESSAGE : message);
+    if (StringUtils.isEmpty(component)) {
+      builder.component(propertiesResolver.getComponentName());
+    }
+    if (errorType == null) {
+      builder.errorType(CoreExceptionType.TECHNICAL);
+    }
+    return builder.build();
+  }
+
+  private static String render(MessageTemplate template, CoreException ex,
+      CoreExceptionStatus status, String code, ServerWebExchange exchange) {
+    if (template.isConstant()) {
+      return template.render();
+    }
+    Map<String, String> arguments = exchange != null
+        ? ErrorMessages.requestArguments(exchange) : new HashMap<>(4);
+    arguments.put("code", code);
+    arguments.put("status", String.valueOf(resolveHttpStatus(ex.getHttpStatusCode(), status)));
+    return template.render(arguments);
+  }
+
+  public boolean hasStaticBody(CoreException normalized, ErrorMessages messages) {
+    if (!CollectionUtils.isEmpty(normalized.getHeaders())) {
+      return false;
+    }
+    String message = normalized.getMessage();
+    if (DEFAULT_CORE_ERROR_MESSAGE.equals(message)) {
+      return true;
+    }
+    MessageTemplate template = messages.getMessage(normalized.getStatus(), normalized.getCode());
+    return template != null && template.isConstant() && message.equals(template.render());
+  }
+
+  public static int resolveHttpStatus(CoreException coreException) {
+    return resolveHttpStatus(coreException.getHttpStatusCode(), coreException.getStatus());
+  }
+
+  private static int resolveHttpStatus(Integer httpStatusCode, CoreExceptionStatus status) {
+    Integer httpCode = httpStatusCode;
+    if ((httpCode == null) && (status != null)) {
+      httpCode = status.getHttpStatus();
+    }
+    if (httpCode == null) {
+      httpCode = HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+    return httpCode;
+  }
+
+}
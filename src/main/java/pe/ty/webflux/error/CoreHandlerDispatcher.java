@@ -0,0 +1,52 @@
+package pe.ty.webflux.error;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import pe.ty.webflux.error.handler.CoreHandler;
+
+/**
+ * Resolves the {@link CoreHandler} for an exception class walking its superclass chain, the
+ * result is cached by class so every later lookup is a single map read.
+ */
+@Slf4j
+public class CoreHandlerDispatcher {
+
+  private final Map<Class<? extends Throwable>, CoreHandler<? extends Throwable>> handlers;
+  private final CoreHandler<? extends Throwable> defaultHandler;
+  private final ConcurrentMap<Class<?>, CoreHandler<? extends Throwable>> cache;
+
+  public CoreHandlerDispatcher(
+      Map<Class<? extends Throwable>, CoreHandler<? extends Throwable>> handlers,
+      CoreHandler<? extends Throwable> defaultHandler) {
+    this.handlers = Collections.unmodifiableMap(handlers);
+    this.defaultHandler = defaultHandler;
+    this.cache = new ConcurrentHashMap<>();
+  }
+
+  @SuppressWarnings("unchecked")
+  public <E extends Throwable> CoreHandler<E> findExceptionHandler(Class<?> exceptionClass) {
+    CoreHandler<? extends Throwable> handler = cache.get(exceptionClass);
+    if (handler == null) {
+      handler = cache.computeIfAbsent(exceptionClass, this::resolveHandler);
+    }
+    return (CoreHandler<E>) handler;
+  }
+
+  private CoreHandler<? extends Throwable> resolveHandler(Class<?> exceptionClass) {
+    Class<?> current = exceptionClass;
+    while (current != null) {
+      CoreHandler<? extends Throwable> handler = handlers.get(current);
+      if (handler != null) {
+        log.debug("Exception {} dispatched to {}", exceptionClass.getName(),
+            handler.getClass().getSimpleName());
+        return handler;
+      }
+      current = current.getSuperclass();
+    }
+    return defaultHandler;
+  }
+
+}
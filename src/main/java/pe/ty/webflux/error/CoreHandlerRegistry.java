@@ -0,0 +1,52 @@
+package pe.ty.webflux.error;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.ResolvableType;
+import pe.ty.webflux.error.handler.CoreHandler;
+
+/**
+ * Collects the {@link CoreHandler}s by the exception type they handle, the first handler
+ * registered for a type wins so handlers must be registered by priority.
+ */
+@Slf4j
+public class CoreHandlerRegistry {
+
+  private final Map<Class<? extends Throwable>, CoreHandler<? extends Throwable>> handlers =
+      new LinkedHashMap<>();
+
+  public CoreHandlerRegistry register(CoreHandler<? extends Throwable> handler) {
+    return register(resolveExceptionType(handler), handler);
+  }
+
+  public CoreHandlerRegistry register(Class<? extends Throwable> exceptionType,
+      CoreHandler<? extends Throwable> handler) {
+    CoreHandler<? extends Throwable> previous = handlers.putIfAbsent(exceptionType, handler);
+    if (previous != null) {
+      log.debug("Ignoring {} for {}, already handled by {}", handler.getClass().getName(),
+          exceptionType.getName(), previous.getClass().getName());
+    }
+    return this;
+  }
+
+  public CoreHandlerDispatcher toDispatcher(CoreHandler<? extends Throwable> defaultHandler) {
+    CoreHandler<? extends Throwable> throwableHandler = handlers.get(Throwable.class);
+    return new CoreHandlerDispatcher(new LinkedHashMap<>(handlers),
+        throwableHandler != null ? throwableHandler : defaultHandler);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Class<? extends Throwable> resolveExceptionType(CoreHandler<?> handler) {
+    Class<?> exceptionType = ResolvableType
+        .forClass(CoreHandler.class, AopUtils.getTargetClass(handler))
+        .resolveGeneric(0);
+    if (exceptionType == null || !Throwable.class.isAssignableFrom(exceptionType)) {
+      throw new IllegalStateException("Cannot resolve the exception type of "
+          + handler.getClass().getName() + ", implement CoreHandler with a concrete type");
+    }
+    return (Class<? extends Throwable>) exceptionType;
+  }
+
+}
@@ -0,0 +1,92 @@
+package pe.ty.webflux.error;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.core.exception.CoreExceptionType;
+
+/**
+ * Bounded cache of encoded error bodies keyed on the normalized {@link CoreException} fields.
+ * When full an arbitrary entry is evicted, entries older than the time to live are ignored.
+ */
+public class ErrorBodyCache {
+
+  private final int maxSize;
+  private final long timeToLiveNanos;
+  private final ConcurrentMap<ErrorBodyKey, CachedBody> bodies;
+
+  public ErrorBodyCache(int maxSize, Duration timeToLive) {
+    this.maxSize = maxSize;
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.bodies = new ConcurrentHashMap<>();
+  }
+
+  public boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  public byte[] get(ErrorBodyKey key) {
+    CachedBody body = bodies.get(key);
+    if (body == null) {
+      return null;
+    }
+    if (timeToLiveNanos > 0 && System.nanoTime() - body.createdAt > timeToLiveNanos) {
+      bodies.remove(key, body);
+      return null;
+    }
+    return body.bytes;
+  }
+
+  public void put(ErrorBodyKey key, byte[] bytes) {
+    if (!isEnabled()) {
+      return;
+    }
+    while (bodies.size() >= maxSize) {
+      Iterator<ErrorBodyKey> iterator = bodies.keySet().iterator();
+      if (!iterator.hasNext()) {
+        break;
+      }
+      iterator.next();
+      iterator.remove();
+    }
+    bodies.put(key, new CachedBody(bytes, System.nanoTime()));
+  }
+
+  public int size() {
+    return bodies.size();
+  }
+
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class CachedBody {
+
+    private final byte[] bytes;
+    private final long createdAt;
+  }
+
+  @EqualsAndHashCode
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  public static class ErrorBodyKey {
+
+    private final int httpStatus;
+    private final Integer httpStatusCode;
+    private final int mediaType;
+    private final CoreExceptionStatus status;
+    private final CoreExceptionType errorType;
+    private final String code;
+    private final String message;
+    private final String component;
+
+    public static ErrorBodyKey of(CoreException coreException, int httpStatus, int mediaType) {
+      return new ErrorBodyKey(httpStatus, coreException.getHttpStatusCode(), mediaType,
+          coreException.getStatus(), coreException.getErrorType(), coreException.getCode(),
+          coreException.getMessage(), coreException.getComponent());
+    }
+  }
+
+}
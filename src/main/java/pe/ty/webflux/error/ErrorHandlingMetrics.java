@@ -0,0 +1,25 @@
+package pe.ty.webflux.error;
+
+import pe.ty.core.exception.CoreException;
+import pe.ty.webflux.error.handler.CoreHandler;
+
+public interface ErrorHandlingMetrics {
+
+  ErrorHandlingMetrics NONE = new ErrorHandlingMetrics() {
+  };
+
+  default boolean isEnabled() {
+    return false;
+  }
+
+  default void recordHandlerSelection(long nanos) {
+  }
+
+  default void recordEncoding(long nanos) {
+  }
+
+  default void recordHandled(Throwable throwable, CoreHandler<?> handler,
+      CoreException coreException, long nanos) {
+  }
+
+}
@@ -0,0 +1,284 @@
+package pe.ty.webflux.error;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.error.message.ErrorMessages;
+import pe.ty.webflux.error.message.MessageTemplate;
+
+/**
+ * Immutable snapshot of the {@code application.error.*} properties for every
+ * {@link CoreExceptionStatus}, loaded on first use and reloaded only through {@link #refresh()}.
+ * {@link BuildProperties} are optional and only consulted for the component name.
+ *
+ * <p>Messages are compiled into {@link ErrorMessages} per configured locale, from
+ * {@code application.error.<status>.messages.<locale>},
+ * {@code application.error.codes.<code>.message[s.<locale>]} and
+ * {@code application.error.descriptions.<key>.message[s.<locale>]}. A locale falls back to its
+ * language and then to the default messages. Status and code messages may use the {@code {code}},
+ * {@code {status}}, {@code {method}} and {@code {path}} placeholders.
+ */
+@Slf4j
+public class ErrorPropertiesResolver {
+
+  private final static String DEFAULT_CORE_ERROR_COMPONENT = "default-component";
+  private final static String PROPERTY_APPLICATION_NAME = "spring.application.name";
+  private final static String BASE_PROPERTY_ERROR = "application.error";
+  private final static String CODE_PROPERTY_ERROR = ".code";
+  private final static String MESSAGE_PROPERTY_ERROR = ".message";
+  private final static String MESSAGES_PROPERTY_ERROR = ".messages";
+  private final static String CODES_PROPERTY_ERROR = ".codes";
+  private final static String DESCRIPTIONS_PROPERTY_ERROR = ".descriptions";
+
+  private final Environment environment;
+  private final Supplier<BuildProperties> buildProperties;
+  private final List<Runnable> refreshListeners;
+  private volatile ErrorPropertiesTable table;
+
+  public ErrorPropertiesResolver(Environment environment,
+      Supplier<BuildProperties> buildProperties) {
+    this.environment = environment;
+    this.buildProperties = buildProperties;
+    this.refreshListeners = new CopyOnWriteArrayList<>();
+  }
+
+  public void refresh() {
+    log.info("Refreshing error properties...");
+    this.table = loadTable();
+    refreshListeners.forEach(Runnable::run);
+  }
+
+  public void addRefreshListener(Runnable listener) {
+    refreshListeners.add(listener);
+  }
+
+  public String getCode(CoreExceptionStatus status) {
+    return table().codes.get(status);
+  }
+
+  public String getMessage(CoreExceptionStatus status) {
+    return table().messages.get(status);
+  }
+
+  public String getComponentName() {
+    return table().componentName;
+  }
+
+  public boolean isLocalized() {
+    return !table().localeMessages.isEmpty();
+  }
+
+  /**
+   * Compiled messages for the locale, its language or the defaults, in that order.
+   */
+  public ErrorMessages getMessages(Locale locale) {
+    ErrorPropertiesTable current = table();
+    if (locale == null || current.localeMessages.isEmpty()) {
+      return current.defaultMessages;
+    }
+    ErrorMessages messages = current.localeMessages.get(locale);
+    if (messages == null) {
+      messages = current.languageMessages.get(locale.getLanguage());
+    }
+    return messages != null ? messages : current.defaultMessages;
+  }
+
+  private ErrorPropertiesTable table() {
+    ErrorPropertiesTable current = table;
+    if (current == null) {
+      synchronized (this) {
+        current = table;
+        if (current == null) {
+          current = loadTable();
+          table = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  private ErrorPropertiesTable loadTable() {
+    Binder binder = environment instanceof ConfigurableEnvironment
+        ? Binder.get(environment) : null;
+    Map<CoreExceptionStatus, String> codes = new EnumMap<>(CoreExceptionStatus.class);
+    Map<CoreExceptionStatus, String> messages = new EnumMap<>(CoreExceptionStatus.class);
+    Map<CoreExceptionStatus, Map<Locale, String>> localizedMessages =
+        new EnumMap<>(CoreExceptionStatus.class);
+    Set<Locale> locales = new LinkedHashSet<>();
+    for (CoreExceptionStatus status : CoreExceptionStatus.values()) {
+      String base = BASE_PROPERTY_ERROR + status.getPropertyName();
+      codes.put(status, environment.getProperty(base + CODE_PROPERTY_ERROR));
+      messages.put(status, environment.getProperty(base + MESSAGE_PROPERTY_ERROR));
+      Map<Locale, String> localized =
+          toLocales(bindMap(binder, base + MESSAGES_PROPERTY_ERROR, String.class));
+      localizedMessages.put(status, localized);
+      locales.addAll(localized.keySet());
+    }
+    Map<String, MessageProperties> codeMessages = bindMap(binder,
+        BASE_PROPERTY_ERROR + CODES_PROPERTY_ERROR, MessageProperties.class);
+    Map<String, MessageProperties> descriptions = new LinkedHashMap<>();
+    ErrorMessages.DEFAULT_DESCRIPTIONS.forEach((key, template) ->
+        descriptions.put(key, new MessageProperties(template.toString())));
+    bindMap(binder, BASE_PROPERTY_ERROR + DESCRIPTIONS_PROPERTY_ERROR, MessageProperties.class)
+        .forEach((key, properties) -> {
+          MessageProperties defaults = descriptions.get(key);
+          if (properties.getMessage() == null && defaults != null) {
+            properties.setMessage(defaults.getMessage());
+          }
+          descriptions.put(key, properties);
+        });
+    codeMessages.values().forEach(properties -> locales.addAll(properties.localized()));
+    descriptions.values().forEach(properties -> locales.addAll(properties.localized()));
+
+    ErrorMessagesCompiler compiler =
+        new ErrorMessagesCompiler(messages, localizedMessages, codeMessages, descriptions);
+    Map<Locale, ErrorMessages> localeMessages = new HashMap<>();
+    Map<String, ErrorMessages> languageMessages = new HashMap<>();
+    for (Locale locale : locales) {
+      ErrorMessages compiled = compiler.compile(locale);
+      localeMessages.put(locale, compiled);
+      if (StringUtils.isEmpty(locale.getCountry())) {
+        languageMessages.put(locale.getLanguage(), compiled);
+      }
+    }
+    return new ErrorPropertiesTable(Collections.unmodifiableMap(codes),
+        Collections.unmodifiableMap(messages), loadComponentName(), compiler.compile(null),
+        Collections.unmodifiableMap(localeMessages),
+        Collections.unmodifiableMap(languageMessages));
+  }
+
+  private static <V> Map<String, V> bindMap(Binder binder, String name, Class<V> valueType) {
+    if (binder == null) {
+      return Collections.emptyMap();
+    }
+    return binder.bind(name, Bindable.mapOf(String.class, valueType))
+        .orElse(Collections.emptyMap());
+  }
+
+  private static Map<Locale, String> toLocales(Map<String, String> localized) {
+    Map<Locale, String> result = new LinkedHashMap<>();
+    localized.forEach((tag, value) -> result.put(StringUtils.parseLocale(tag), value));
+    return result;
+  }
+
+  private String loadComponentName() {
+    String component = environment.getProperty(PROPERTY_APPLICATION_NAME);
+    if (StringUtils.isEmpty(component)) {
+      BuildProperties build = buildProperties.get();
+      component = build != null ? build.getName() : null;
+      if (StringUtils.isEmpty(component)) {
+        component = DEFAULT_CORE_ERROR_COMPONENT;
+      }
+    }
+    return component;
+  }
+
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class ErrorMessagesCompiler {
+
+    private final Map<CoreExceptionStatus, String> messages;
+    private final Map<CoreExceptionStatus, Map<Locale, String>> localizedMessages;
+    private final Map<String, MessageProperties> codes;
+    private final Map<String, MessageProperties> descriptions;
+
+    private ErrorMessages compile(Locale locale) {
+      Map<CoreExceptionStatus, MessageTemplate> statusTemplates =
+          new EnumMap<>(CoreExceptionStatus.class);
+      messages.forEach((status, message) -> {
+        String localized = localize(localizedMessages.get(status), locale, message);
+        if (localized != null) {
+          statusTemplates.put(status, MessageTemplate.compile(localized));
+        }
+      });
+      Map<String, MessageTemplate> codeTemplates = new HashMap<>();
+      codes.forEach((code, properties) -> {
+        String localized = localize(properties.localizedMessages(), locale,
+            properties.getMessage());
+        if (localized != null) {
+          MessageTemplate template = MessageTemplate.compile(localized);
+          codeTemplates.put(code.toLowerCase(Locale.ROOT), template);
+          codeTemplates.putIfAbsent(code.toUpperCase(Locale.ROOT), template);
+        }
+      });
+      Map<String, MessageTemplate> descriptionTemplates = new HashMap<>();
+      descriptions.forEach((key, properties) -> {
+        String localized = localize(properties.localizedMessages(), locale,
+            properties.getMessage());
+        if (localized != null) {
+          descriptionTemplates.put(key, MessageTemplate.compile(localized));
+        }
+      });
+      return new ErrorMessages(locale != null ? locale : Locale.ROOT,
+          Collections.unmodifiableMap(statusTemplates),
+          Collections.unmodifiableMap(codeTemplates),
+          Collections.unmodifiableMap(descriptionTemplates));
+    }
+
+    private static String localize(Map<Locale, String> localized, Locale locale,
+        String defaultValue) {
+      if (locale == null || localized.isEmpty()) {
+        return defaultValue;
+      }
+      String value = localized.get(locale);
+      if (value == null && !StringUtils.isEmpty(locale.getCountry())) {
+        value = localized.get(new Locale(locale.getLanguage()));
+      }
+      return value != null ? value : defaultValue;
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class MessageProperties {
+
+    private String message;
+    private Map<String, String> messages = new LinkedHashMap<>();
+
+    public MessageProperties() {
+    }
+
+    private MessageProperties(String message) {
+      this.message = message;
+    }
+
+    private Map<Locale, String> localizedMessages() {
+      return toLocales(messages);
+    }
+
+    private Set<Locale> localized() {
+      return localizedMessages().keySet();
+    }
+  }
+
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class ErrorPropertiesTable {
+
+    private final Map<CoreExceptionStatus, String> codes;
+    private final Map<CoreExceptionStatus, String> messages;
+    private final String componentName;
+    private final ErrorMessages defaultMessages;
+    private final Map<Locale, ErrorMessages> localeMessages;
+    private final Map<String, ErrorMessages> languageMessages;
+  }
+
+}
@@ -0,0 +1,158 @@
+package pe.ty.webflux.error;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.server.ServerWebExchange;
+import pe.ty.core.exception.CoreException;
+import pe.ty.webflux.error.ErrorBodyCache.ErrorBodyKey;
+import reactor.core.publisher.Mono;
+
+/**
+ * Writes a normalized {@link CoreException} straight to the {@link ServerHttpResponse} using the
+ * application {@link ObjectMapper}s, without going through {@code ServerResponse} and its
+ * message writers. The first media type is the default one when the {@code Accept} header does
+ * not match any other.
+ */
+public class ErrorResponseWriter {
+
+  private final MediaType[] mediaTypes;
+  private final ObjectMapper[] mappers;
+  private final ErrorBodyCache bodyCache;
+  private final ErrorHandlingMetrics metrics;
+
+  public ErrorResponseWriter(Map<MediaType, ObjectMapper> mappers, ErrorBodyCache bodyCache,
+      ErrorHandlingMetrics metrics) {
+    this.mediaTypes = mappers.keySet().toArray(new MediaType[0]);
+    this.mappers = mappers.values().toArray(new ObjectMapper[0]);
+    this.bodyCache = bodyCache;
+    this.metrics = metrics;
+  }
+
+  public Mono<Void> write(ServerWebExchange exchange, CoreException coreException,
+      boolean staticBody) {
+    ServerHttpResponse response = exchange.getResponse();
+    int mapperIndex = selectMapper(exchange.getRequest());
+    ObjectMapper mapper = mappers[mapperIndex];
+    int httpStatus = CoreExceptionNormalizer.resolveHttpStatus(coreException);
+    HttpHeaders headers = prepare(response, coreException, httpStatus, mapperIndex);
+    if (staticBody && bodyCache.isEnabled()) {
+      ErrorBodyKey key = ErrorBodyKey.of(coreException, httpStatus, mapperIndex);
+      byte[] body = bodyCache.get(key);
+      if (body == null) {
+        long start = System.nanoTime();
+        try {
+          body = mapper.writeValueAsBytes(coreException);
+        } catch (IOException e) {
+          return Mono.error(e);
+        }
+        recordEncoding(start);
+        bodyCache.put(key, body);
+      }
+      byte[] cachedBody = body;
+      headers.setContentLength(cachedBody.length);
+      return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cachedBody)));
+    }
+    long start = System.nanoTime();
+    DataBuffer buffer = response.bufferFactory().allocateBuffer();
+    try (OutputStream outputStream = buffer.asOutputStream()) {
+      mapper.writeValue(outputStream, coreException);
+    } catch (IOException e) {
+      DataBufferUtils.release(buffer);
+      return Mono.error(e);
+    }
+    recordEncoding(start);
+    headers.setContentLength(buffer.readableByteCount());
+    return response.writeWith(Mono.just(buffer));
+  }
+
+  /**
+   * Writes a body encoded ahead of time by {@link #encode(CoreException)}, only the buffer
+   * wrapping the cached bytes is allocated.
+   */
+  public Mono<Void> write(ServerWebExchange exchange, EncodedError error) {
+    ServerHttpResponse response = exchange.getResponse();
+    int mapperIndex = selectMapper(exchange.getRequest());
+    byte[] body = error.bodies[mapperIndex];
+    HttpHeaders headers = prepare(response, error.coreException, error.httpStatus, mapperIndex);
+    headers.setContentLength(body.length);
+    return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+  }
+
+  /**
+   * Encodes the exception once per configured media type, for responses that never change.
+   */
+  public EncodedError encode(CoreException coreException) {
+    byte[][] bodies = new byte[mappers.length][];
+    for (int i = 0; i < mappers.length; i++) {
+      try {
+        bodies[i] = mappers[i].writeValueAsBytes(coreException);
+      } catch (IOException e) {
+        throw new IllegalStateException("Cannot encode the error body as " + mediaTypes[i], e);
+      }
+    }
+    return new EncodedError(coreException,
+        CoreExceptionNormalizer.resolveHttpStatus(coreException), bodies);
+  }
+
+  private HttpHeaders prepare(ServerHttpResponse response, CoreException coreException,
+      int httpStatus, int mapperIndex) {
+    response.setRawStatusCode(httpStatus);
+    HttpHeaders headers = response.getHeaders();
+    headers.setContentType(mediaTypes[mapperIndex]);
+    if (!CollectionUtils.isEmpty(coreException.getHeaders())) {
+      coreException.getHeaders().forEach(headers::add);
+    }
+    return headers;
+  }
+
+  private int selectMapper(ServerHttpRequest request) {
+    if (mediaTypes.length == 1 || !request.getHeaders().containsKey(HttpHeaders.ACCEPT)) {
+      return 0;
+    }
+    List<MediaType> acceptedTypes = new ArrayList<>(request.getHeaders().getAccept());
+    MediaType.sortBySpecificityAndQuality(acceptedTypes);
+    for (MediaType acceptedType : acceptedTypes) {
+      for (int i = 0; i < mediaTypes.length; i++) {
+        if (acceptedType.isCompatibleWith(mediaTypes[i])) {
+          return i;
+        }
+      }
+    }
+    return 0;
+  }
+
+  private void recordEncoding(long start) {
+    if (metrics.isEnabled()) {
+      metrics.recordEncoding(System.nanoTime() - start);
+    }
+  }
+
+  public static class EncodedError {
+
+    private final CoreException coreException;
+    private final int httpStatus;
+    private final byte[][] bodies;
+
+    private EncodedError(CoreException coreException, int httpStatus, byte[][] bodies) {
+      this.coreException = coreException;
+      this.httpStatus = httpStatus;
+      this.bodies = bodies;
+    }
+
+    public CoreException getCoreException() {
+      return coreException;
+    }
+  }
+
+}
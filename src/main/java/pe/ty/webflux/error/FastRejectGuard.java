@@ -0,0 +1,57 @@
+package pe.ty.webflux.error;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts unmapped route errors per time window, while the rate of the current or the previous
+ * window is over the threshold the guard stays in reject mode. {@link #DISABLED} never enters
+ * reject mode.
+ */
+public class FastRejectGuard {
+
+  public final static FastRejectGuard DISABLED = new FastRejectGuard();
+
+  private final boolean enabled;
+  private final long threshold;
+  private final long windowNanos;
+  private final AtomicLong currentWindow;
+  private final LongAdder currentCount;
+  private volatile long previousCount;
+
+  private FastRejectGuard() {
+    this.enabled = false;
+    this.threshold = Long.MAX_VALUE;
+    this.windowNanos = Long.MAX_VALUE;
+    this.currentWindow = new AtomicLong();
+    this.currentCount = new LongAdder();
+  }
+
+  public FastRejectGuard(long threshold, Duration window) {
+    this.enabled = true;
+    this.threshold = threshold;
+    this.windowNanos = window.toNanos();
+    this.currentWindow = new AtomicLong(System.nanoTime() / windowNanos);
+    this.currentCount = new LongAdder();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public boolean recordAndCheck() {
+    if (!enabled) {
+      return false;
+    }
+    long window = System.nanoTime() / windowNanos;
+    long current = currentWindow.get();
+    if (window != current && currentWindow.compareAndSet(current, window)) {
+      long count = currentCount.sumThenReset();
+      previousCount = window == current + 1 ? count : 0;
+    }
+    currentCount.increment();
+    return previousCount > threshold || currentCount.sum() > threshold;
+  }
+
+}
@@ -0,0 +1,127 @@
+package pe.ty.webflux.error;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import pe.ty.core.exception.CoreException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Once a streaming response is committed no error response can be written, so errors raised by
+ * {@code text/event-stream} and NDJSON bodies are turned into a final error element built from
+ * the normalized {@link CoreException} and the stream is completed.
+ *
+ * <p>Only requests that accept a streaming media type explicitly get the response decorated, and
+ * the body is only wrapped when the response content type is a streaming one.
+ */
+public class StreamingErrorWebFilter implements WebFilter {
+
+  private final static byte[] SSE_ERROR_PREFIX = "event:error\ndata:"
+      .getBytes(StandardCharsets.UTF_8);
+  private final static byte[] SSE_ERROR_SUFFIX = "\n\n".getBytes(StandardCharsets.UTF_8);
+  private final static byte[] EMPTY = new byte[0];
+  private final static byte[] NDJSON_SUFFIX = "\n".getBytes(StandardCharsets.UTF_8);
+  private final static MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+  private final TyReactiveExceptionHandler exceptionHandler;
+  private final ObjectMapper mapper;
+
+  public StreamingErrorWebFilter(TyReactiveExceptionHandler exceptionHandler,
+      ObjectMapper mapper) {
+    this.exceptionHandler = exceptionHandler;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!acceptsStreaming(exchange.getRequest().getHeaders().getAccept())) {
+      return chain.filter(exchange);
+    }
+    return chain.filter(exchange.mutate().response(new StreamingErrorResponse(exchange)).build());
+  }
+
+  private static boolean acceptsStreaming(List<MediaType> acceptedTypes) {
+    for (MediaType acceptedType : acceptedTypes) {
+      if (!acceptedType.isWildcardType() && !acceptedType.isWildcardSubtype()
+          && isStreaming(acceptedType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Mono<DataBuffer> errorElement(ServerWebExchange exchange, MediaType contentType,
+      Throwable ex) {
+    return exceptionHandler.resolveCoreException(exchange, ex)
+        .flatMap(coreException -> {
+          byte[] json;
+          try {
+            json = mapper.writeValueAsBytes(coreException);
+          } catch (IOException e) {
+            return Mono.error(e);
+          }
+          boolean sse = MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType);
+          byte[] prefix = sse ? SSE_ERROR_PREFIX : EMPTY;
+          byte[] suffix = sse ? SSE_ERROR_SUFFIX : NDJSON_SUFFIX;
+          DataBuffer buffer = exchange.getResponse().bufferFactory()
+              .allocateBuffer(prefix.length + json.length + suffix.length);
+          return Mono.just(buffer.write(prefix).write(json).write(suffix));
+        });
+  }
+
+  private static boolean isStreaming(MediaType contentType) {
+    return contentType != null && (MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType)
+        || APPLICATION_NDJSON.isCompatibleWith(contentType)
+        || MediaType.APPLICATION_STREAM_JSON.isCompatibleWith(contentType));
+  }
+
+  private class StreamingErrorResponse extends ServerHttpResponseDecorator {
+
+    private final ServerWebExchange exchange;
+
+    private StreamingErrorResponse(ServerWebExchange exchange) {
+      super(exchange.getResponse());
+      this.exchange = exchange;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      MediaType contentType = getHeaders().getContentType();
+      if (!isStreaming(contentType)) {
+        return super.writeWith(body);
+      }
+      return super.writeWith(Flux.<DataBuffer>from(body)
+          .onErrorResume(ex -> errorElement(exchange, contentType, ex)));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(
+        Publisher<? extends Publisher<? extends DataBuffer>> body) {
+      MediaType contentType = getHeaders().getContentType();
+      if (!isStreaming(contentType)) {
+        return super.writeAndFlushWith(body);
+      }
+      AtomicBoolean failed = new AtomicBoolean();
+      return super.writeAndFlushWith(Flux.<Publisher<? extends DataBuffer>>from(body)
+          .takeWhile(element -> !failed.get())
+          .<Publisher<DataBuffer>>map(element -> Flux.<DataBuffer>from(element)
+              .onErrorResume(ex -> {
+                failed.set(true);
+                return errorElement(exchange, contentType, ex);
+              }))
+          .onErrorResume(ex -> Mono.<Publisher<DataBuffer>>just(
+              errorElement(exchange, contentType, ex))));
+    }
+  }
+
+}
@@ -1,23 +1,14 @@
 package pe.ty.webflux.error;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.info.BuildProperties;
-import org.springframework.core.env.Environment;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.codec.HttpMessageWriter;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
-import org.springframework.web.reactive.function.server.HandlerStrategies;
-import org.springframework.web.reactive.function.server.ServerResponse;
-import org.springframework.web.reactive.function.server.ServerResponse.BodyBuilder;
-import org.springframework.web.reactive.result.view.ViewResolver;
 import org.springframework.web.server.MethodNotAllowedException;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
@@ -26,153 +17,209 @@ import org.springframework.web.server.WebExceptionHandler;
 import pe.ty.core.exception.CoreException;
 import pe.ty.core.exception.CoreException.CoreExceptionBuilder;
 import pe.ty.core.exception.CoreExceptionStatus;
-import pe.ty.core.exception.CoreExceptionType;
+import pe.ty.webflux.correlation.RequestIdWebFilter;
+import pe.ty.webflux.error.ErrorResponseWriter.EncodedError;
 import pe.ty.webflux.error.handler.BadRequestExceptionHandler;
 import pe.ty.webflux.error.handler.CoreExceptionHandler;
 import pe.ty.webflux.error.handler.CoreHandler;
+import pe.ty.webflux.error.handler.DataBufferLimitExceptionHandler;
 import pe.ty.webflux.error.handler.GenericExceptionHandler;
 import pe.ty.webflux.error.handler.MethodNotAllowedExceptionHandler;
 import pe.ty.webflux.error.handler.ResponseStatusExceptionHandler;
+import pe.ty.webflux.error.handler.SyncCoreHandler;
+import pe.ty.webflux.error.logging.ErrorLogPolicy;
+import pe.ty.webflux.error.message.ErrorMessages;
 import reactor.core.publisher.Mono;
 
-@Slf4j
+/**
+ * Renders every exception as a normalized {@link CoreException}. The handler table and the
+ * prebuilt reject bodies are built on the first handled exception, not at startup.
+ */
 public class TyReactiveExceptionHandler implements WebExceptionHandler {
 
-  private final static String DEFAULT_CORE_ERROR_CODE = "ER9999";
-  private final static String DEFAULT_CORE_ERROR_MESSAGE = "No description configured.";
-  private final static String DEFAULT_CORE_ERROR_COMPONENT = "default-component";
-  private final static String PROPERTY_APPLICATION_NAME = "spring.application.name";
-  private final static String BASE_PROPERTY_ERROR = "application.error";
-  private final static String CODE_PROPERTY_ERROR = ".code";
-  private final static String MESSAGE_PROPERTY_ERROR = ".message";
-
-  private final Map<Class<? extends Throwable>, CoreHandler<? extends Throwable>> handlers;
-  private final CoreHandler genericExceptionHandler;
-  private final Environment environment;
-  private final BuildProperties buildProperties;
-
-  public TyReactiveExceptionHandler(Environment environment, BuildProperties buildProperties) {
-    this.genericExceptionHandler = new GenericExceptionHandler();
-    this.handlers = Collections.unmodifiableMap(registerHandlers());
-    this.environment = environment;
-    this.buildProperties = buildProperties;
+  public final static String CORE_EXCEPTION_ATTRIBUTE =
+      TyReactiveExceptionHandler.class.getName() + ".coreException";
+  public final static String REJECT_NOT_FOUND_MESSAGE = "Not found";
+  public final static String REJECT_METHOD_NOT_ALLOWED_MESSAGE = "Method not allowed";
+
+  private final ErrorPropertiesResolver propertiesResolver;
+  private final List<CoreHandler<? extends Throwable>> customHandlers;
+  private final CoreExceptionNormalizer normalizer;
+  private final ErrorResponseWriter responseWriter;
+  private final ErrorHandlingMetrics metrics;
+  private final ErrorLogPolicy logPolicy;
+  private final FastRejectGuard fastRejectGuard;
+  private volatile CoreHandlerDispatcher dispatcher;
+  private final ConcurrentMap<ErrorMessages, RejectExceptions> rejectExceptions;
+
+  public TyReactiveExceptionHandler(ErrorPropertiesResolver propertiesResolver,
+      List<CoreHandler<? extends Throwable>> customHandlers, ErrorResponseWriter responseWriter,
+      ErrorHandlingMetrics metrics, ErrorLogPolicy logPolicy, FastRejectGuard fastRejectGuard) {
+    this.propertiesResolver = propertiesResolver;
+    this.customHandlers = customHandlers;
+    this.normalizer = new CoreExceptionNormalizer(propertiesResolver);
+    this.responseWriter = responseWriter;
+    this.metrics = metrics;
+    this.logPolicy = logPolicy;
+    this.fastRejectGuard = fastRejectGuard;
+    this.rejectExceptions = new ConcurrentHashMap<>();
+    propertiesResolver.addRefreshListener(rejectExceptions::clear);
   }
 
-  @SuppressWarnings("unchecked")
-  private Map<Class<? extends Throwable>, CoreHandler<? extends Throwable>> registerHandlers() {
-    Map<Class<? extends Throwable>, CoreHandler<? extends Throwable>> handlers = new HashMap<>();
-    handlers.put(CoreException.class, new CoreExceptionHandler());
-    handlers.put(ServerWebInputException.class, new BadRequestExceptionHandler());
-    handlers.put(MethodNotAllowedException.class, new MethodNotAllowedExceptionHandler());
-    handlers.put(ResponseStatusException.class, new ResponseStatusExceptionHandler());
-    handlers.put(Throwable.class, genericExceptionHandler);
-    return handlers;
+  private CoreHandlerDispatcher dispatcher() {
+    CoreHandlerDispatcher current = dispatcher;
+    if (current == null) {
+      synchronized (this) {
+        current = dispatcher;
+        if (current == null) {
+          current = registerHandlers(customHandlers);
+          dispatcher = current;
+        }
+      }
+    }
+    return current;
   }
 
-  @Override
-  public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
-    log.info("Handling exception: {}", ex);
-    return Mono.fromCallable(() -> findExceptionHandler(ex.getClass()))
-        .flatMap(handler -> handler.handle(exchange, ex))
-        .flatMap(this::resolveFields)
-        .flatMap(this::completeValues)
-        .flatMap(this::createResponse)
-        .flatMap(serverResponse -> this.writeResponse(exchange, serverResponse));
+  private RejectExceptions rejectExceptions(ErrorMessages messages) {
+    RejectExceptions current = rejectExceptions.get(messages);
+    if (current == null) {
+      current = rejectExceptions.computeIfAbsent(messages, key -> new RejectExceptions(
+          encodeReject(CoreException.builder()
+              .status(CoreExceptionStatus.NOT_FOUND), key, REJECT_NOT_FOUND_MESSAGE),
+          encodeReject(CoreException.builder()
+              .httpStatusCode(HttpStatus.METHOD_NOT_ALLOWED.value())
+              .status(CoreExceptionStatus.UNEXPECTED), key, REJECT_METHOD_NOT_ALLOWED_MESSAGE)));
+    }
+    return current;
   }
 
-  @SuppressWarnings("unchecked")
-  private <E extends Throwable> CoreHandler<E> findExceptionHandler(Class<? extends Throwable> e) {
-    return (CoreHandler<E>) this.handlers.entrySet().stream()
-        .filter(x -> e.equals(x.getKey()))
-        .findFirst()
-        .map(Entry::getValue)
-        .orElse(genericExceptionHandler);
+  /**
+   * Rejections carry a fixed message instead of the configured descriptions, which render the
+   * request method and path, so their body is encoded once and never echoes the request.
+   */
+  private EncodedError encodeReject(CoreExceptionBuilder builder, ErrorMessages messages,
+      String message) {
+    return responseWriter.encode(normalizer.normalize(builder
+        .message(message)
+        .resolved(true)
+        .build(), messages));
   }
 
-  private Mono<CoreException> resolveFields(CoreException ex) {
-    return Mono.fromCallable(() -> {
-      CoreExceptionBuilder builder = ex.toBuilder();
-      if (ex.getStatus() == null) {
-        builder.status(CoreExceptionStatus.UNEXPECTED);
-      }
-      String base = BASE_PROPERTY_ERROR + ex.getStatus().getPropertyName();
-      if (StringUtils.isEmpty(ex.getCode()) || !ex.isResolved()) {
-        builder.code(environment.getProperty(base + CODE_PROPERTY_ERROR));
-      }
-      if (StringUtils.isEmpty(ex.getMessage()) || !ex.isResolved()) {
-        builder.message(environment.getProperty(base + MESSAGE_PROPERTY_ERROR));
-      }
-      return builder.build().markAsResolved();
-    });
+  private ErrorMessages resolveMessages(ServerWebExchange exchange) {
+    ErrorMessages messages = ErrorMessages.from(exchange);
+    if (messages != ErrorMessages.DEFAULT) {
+      return messages;
+    }
+    Locale locale = propertiesResolver.isLocalized()
+        && exchange.getRequest().getHeaders().containsKey(HttpHeaders.ACCEPT_LANGUAGE)
+        ? exchange.getLocaleContext().getLocale() : null;
+    messages = propertiesResolver.getMessages(locale);
+    exchange.getAttributes().put(ErrorMessages.EXCHANGE_ATTRIBUTE, messages);
+    return messages;
   }
 
-  private Mono<CoreException> completeValues(CoreException ex) {
-    return Mono.fromCallable(() -> {
-      CoreExceptionBuilder builder = ex.toBuilder();
-      if (ex.getStatus() == null) {
-        builder.status(CoreExceptionStatus.UNEXPECTED);
-      }
-      if (StringUtils.isEmpty(ex.getComponent())) {
-        builder.component(getComponentName());
-      }
-      if (StringUtils.isEmpty(ex.getCode())) {
-        builder.code(DEFAULT_CORE_ERROR_CODE);
-      }
-      if (StringUtils.isEmpty(ex.getMessage())) {
-        builder.message(DEFAULT_CORE_ERROR_MESSAGE);
-      }
-      if (ex.getErrorType() == null) {
-        builder.errorType(CoreExceptionType.TECHNICAL);
-      }
-      return builder.build();
-    });
+  private CoreHandlerDispatcher registerHandlers(
+      List<CoreHandler<? extends Throwable>> customHandlers) {
+    CoreHandlerRegistry registry = new CoreHandlerRegistry();
+    customHandlers.forEach(registry::register);
+    CoreHandler<Throwable> genericExceptionHandler = new GenericExceptionHandler();
+    return registry
+        .register(CoreException.class, new CoreExceptionHandler())
+        .register(ServerWebInputException.class, new BadRequestExceptionHandler())
+        .register(MethodNotAllowedException.class, new MethodNotAllowedExceptionHandler())
+        .register(DataBufferLimitException.class, new DataBufferLimitExceptionHandler())
+        .register(ResponseStatusException.class, new ResponseStatusExceptionHandler())
+        .register(Throwable.class, genericExceptionHandler)
+        .toDispatcher(genericExceptionHandler);
   }
 
-  private String getComponentName() {
-    String component = environment.getProperty(PROPERTY_APPLICATION_NAME);
-    if (StringUtils.isEmpty(component)) {
-      component = buildProperties.getName();
-      if (StringUtils.isEmpty(component)) {
-        component = DEFAULT_CORE_ERROR_COMPONENT;
-      }
+  @Override
+  @SuppressWarnings("unchecked")
+  public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+    if (exchange.getResponse().isCommitted()) {
+      return resolveCoreException(exchange, ex).then(Mono.error(ex));
     }
-    return component;
-  }
-
-  private Mono<ServerResponse> createResponse(CoreException coreException) {
-    Integer httpCode = coreException.getHttpStatusCode();
-    if ((httpCode == null) && (coreException.getStatus() != null)) {
-      httpCode = coreException.getStatus().getHttpStatus();
+    long start = System.nanoTime();
+    ErrorMessages messages = resolveMessages(exchange);
+    CoreHandler<Throwable> handler = dispatcher().findExceptionHandler(ex.getClass());
+    if (metrics.isEnabled()) {
+      metrics.recordHandlerSelection(System.nanoTime() - start);
     }
-    if (httpCode == null) {
-      httpCode = HttpStatus.INTERNAL_SERVER_ERROR.value();
+    if (fastRejectGuard.isEnabled() && isRejectable(ex, handler)
+        && fastRejectGuard.recordAndCheck()) {
+      EncodedError reject = findRejectException(ex, handler, messages);
+      logPolicy.suppress(ex);
+      exchange.getAttributes().put(CORE_EXCEPTION_ATTRIBUTE, reject.getCoreException());
+      return recordHandled(responseWriter.write(exchange, reject), ex, handler,
+          reject.getCoreException(), start);
     }
-    BodyBuilder builder = ServerResponse.status(httpCode);
-    if (!CollectionUtils.isEmpty(coreException.getHeaders())) {
-      coreException.getHeaders().forEach(builder::header);
+    if (handler instanceof SyncCoreHandler) {
+      CoreException coreException;
+      try {
+        coreException = normalizer
+            .normalize(((SyncCoreHandler<Throwable>) handler).resolve(exchange, ex), messages,
+                exchange);
+      } catch (Exception e) {
+        return Mono.error(e);
+      }
+      return writeResponse(exchange, ex, handler, coreException, messages, start);
     }
-    return builder.bodyValue(coreException);
+    return handler.handle(exchange, ex)
+        .map(coreException -> normalizer.normalize(coreException, messages, exchange))
+        .flatMap(coreException ->
+            writeResponse(exchange, ex, handler, coreException, messages, start));
   }
 
-  private Mono<Void> writeResponse(ServerWebExchange exchange, ServerResponse serverResponse) {
-    return serverResponse.writeTo(exchange, HandlerStrategiesResponseContext.NEW_INSTANCE);
+  /**
+   * Only exceptions dispatched to the built-in handlers are rejected, a custom handler registered
+   * for them always runs.
+   */
+  private static boolean isRejectable(Throwable ex, CoreHandler<Throwable> handler) {
+    return handler.getClass() == MethodNotAllowedExceptionHandler.class
+        || (handler.getClass() == ResponseStatusExceptionHandler.class
+        && ((ResponseStatusException) ex).getStatus() == HttpStatus.NOT_FOUND);
   }
 
-  @AllArgsConstructor(access = AccessLevel.PRIVATE)
-  private static class HandlerStrategiesResponseContext implements ServerResponse.Context {
+  private EncodedError findRejectException(Throwable ex, CoreHandler<Throwable> handler,
+      ErrorMessages messages) {
+    RejectExceptions current = rejectExceptions(messages);
+    return handler.getClass() == MethodNotAllowedExceptionHandler.class
+        ? current.methodNotAllowed : current.notFound;
+  }
 
-    private static HandlerStrategiesResponseContext NEW_INSTANCE = new HandlerStrategiesResponseContext(
-        HandlerStrategies.withDefaults());
+  public Mono<CoreException> resolveCoreException(ServerWebExchange exchange, Throwable ex) {
+    CoreHandler<Throwable> handler = dispatcher().findExceptionHandler(ex.getClass());
+    ErrorMessages messages = resolveMessages(exchange);
+    return handler.handle(exchange, ex)
+        .map(coreException -> normalizer.normalize(coreException, messages, exchange))
+        .doOnNext(coreException -> logPolicy
+            .log(ex, coreException, RequestIdWebFilter.getRequestId(exchange)));
+  }
 
-    private HandlerStrategies strategies;
+  private Mono<Void> writeResponse(ServerWebExchange exchange, Throwable ex,
+      CoreHandler<Throwable> handler, CoreException coreException, ErrorMessages messages,
+      long start) {
+    logPolicy.log(ex, coreException, RequestIdWebFilter.getRequestId(exchange));
+    exchange.getAttributes().put(CORE_EXCEPTION_ATTRIBUTE, coreException);
+    return recordHandled(responseWriter
+            .write(exchange, coreException, normalizer.hasStaticBody(coreException, messages)),
+        ex, handler, coreException, start);
+  }
 
-    public List<HttpMessageWriter<?>> messageWriters() {
-      return this.strategies.messageWriters();
+  private Mono<Void> recordHandled(Mono<Void> response, Throwable ex,
+      CoreHandler<Throwable> handler, CoreException coreException, long start) {
+    if (!metrics.isEnabled()) {
+      return response;
     }
+    return response.doOnSuccess(
+        v -> metrics.recordHandled(ex, handler, coreException, System.nanoTime() - start));
+  }
 
-    public List<ViewResolver> viewResolvers() {
-      return this.strategies.viewResolvers();
-    }
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class RejectExceptions {
+
+    private final EncodedError notFound;
+    private final EncodedError methodNotAllowed;
   }
 
 }
\ No newline at end of file
@@ -2,12 +2,11 @@ package pe.ty.webflux.error.handler;
 
 import org.springframework.web.server.ServerWebExchange;
 import pe.ty.core.exception.CoreException;
-import reactor.core.publisher.Mono;
 
-public class CoreExceptionHandler implements CoreHandler<CoreException> {
+public class CoreExceptionHandler implements SyncCoreHandler<CoreException> {
 
   @Override
-  public Mono<CoreException> handle(ServerWebExchange exchange, CoreException throwable) {
-    return Mono.fromCallable(() -> throwable);
+  public CoreException resolve(ServerWebExchange exchange, CoreException throwable) {
+    return throwable;
   }
 }
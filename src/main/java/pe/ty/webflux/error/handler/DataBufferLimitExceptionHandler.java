@@ -0,0 +1,21 @@
+package pe.ty.webflux.error.handler;
+
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+
+public class DataBufferLimitExceptionHandler implements
+    SyncCoreHandler<DataBufferLimitException> {
+
+  @Override
+  public CoreException resolve(ServerWebExchange exchange, DataBufferLimitException throwable) {
+    return CoreException.builder()
+        .httpStatusCode(HttpStatus.PAYLOAD_TOO_LARGE.value())
+        .status(CoreExceptionStatus.BAD_REQUEST)
+        .message(throwable.getMessage())
+        .resolved(true)
+        .build();
+  }
+}
@@ -1,44 +1,49 @@
 package pe.ty.webflux.error.handler;
 
-import java.util.Collections;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.util.StringUtils;
 import org.springframework.web.server.MethodNotAllowedException;
 import org.springframework.web.server.ServerWebExchange;
 import pe.ty.core.exception.CoreException;
 import pe.ty.core.exception.CoreExceptionStatus;
-import reactor.core.publisher.Mono;
+import pe.ty.webflux.error.message.ErrorMessages;
+import pe.ty.webflux.error.message.MessageTemplate;
 
-public class MethodNotAllowedExceptionHandler implements CoreHandler<MethodNotAllowedException> {
+public class MethodNotAllowedExceptionHandler implements
+    SyncCoreHandler<MethodNotAllowedException> {
 
   @Override
-  public Mono<CoreException> handle(ServerWebExchange exchange,
-      MethodNotAllowedException throwable) {
-    return Mono.fromCallable(() -> {
-      ServerHttpRequest request = exchange.getRequest();
-      String rawQuery = request.getURI().getRawQuery();
-      String query = StringUtils.hasText(rawQuery) ? "?" + rawQuery : "";
-      HttpMethod httpMethod = request.getMethod();
-      String description =
-          "Method " + httpMethod + " is not supported on the next URI: \"" + request.getPath()
-              + query + "\" only: " + getSupportedMethods(throwable);
-      return CoreException.builder()
-          .httpStatusCode(throwable.getStatus().value())
-          .status(CoreExceptionStatus.UNEXPECTED)
-          .message(description)
-          .resolved(true)
-          .build();
-    });
+  public CoreException resolve(ServerWebExchange exchange, MethodNotAllowedException throwable) {
+    MessageTemplate template = ErrorMessages.from(exchange)
+        .getDescription(ErrorMessages.METHOD_NOT_ALLOWED_DESCRIPTION);
+    String description = null;
+    if (template != null) {
+      Map<String, String> arguments = ErrorMessages.requestArguments(exchange);
+      arguments.put("supported", getSupportedMethods(throwable));
+      description = template.render(arguments);
+    }
+    return CoreException.builder()
+        .httpStatusCode(throwable.getStatus().value())
+        .status(CoreExceptionStatus.UNEXPECTED)
+        .message(description)
+        .resolved(true)
+        .build();
   }
 
   private String getSupportedMethods(MethodNotAllowedException throwable) {
-    return Optional.ofNullable(throwable.getSupportedMethods()).orElse(Collections.emptySet())
-        .stream()
-        .map(Enum::toString)
-        .reduce((x, y) -> x + ", " + y)
-        .orElse("-");
+    Set<HttpMethod> supportedMethods = throwable.getSupportedMethods();
+    if (supportedMethods == null || supportedMethods.isEmpty()) {
+      return "-";
+    }
+    StringBuilder builder = new StringBuilder(supportedMethods.size() * 8);
+    for (HttpMethod method : supportedMethods) {
+      if (builder.length() > 0) {
+        builder.append(", ");
+      }
+      builder.append(method.name());
+    }
+    return builder.toString();
   }
 
 }
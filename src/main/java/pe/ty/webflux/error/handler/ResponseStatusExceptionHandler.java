@@ -1,30 +1,33 @@
 package pe.ty.webflux.error.handler;
 
-import org.springframework.http.HttpMethod;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.util.StringUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import pe.ty.core.exception.CoreException;
 import pe.ty.core.exception.CoreExceptionStatus;
-import reactor.core.publisher.Mono;
+import pe.ty.webflux.error.message.ErrorMessages;
+import pe.ty.webflux.error.message.MessageTemplate;
 
-public class ResponseStatusExceptionHandler implements CoreHandler<ResponseStatusException> {
+public class ResponseStatusExceptionHandler implements SyncCoreHandler<ResponseStatusException> {
 
   @Override
-  public Mono<CoreException> handle(ServerWebExchange exchange, ResponseStatusException throwable) {
-    return Mono.fromCallable(() -> {
-      ServerHttpRequest request = exchange.getRequest();
-      String rawQuery = request.getURI().getRawQuery();
-      String query = StringUtils.hasText(rawQuery) ? "?" + rawQuery : "";
-      HttpMethod httpMethod = request.getMethod();
-      String description =
-          "Not found -> HTTP " + httpMethod + " \"" + request.getPath() + query + "\"";
+  public CoreException resolve(ServerWebExchange exchange, ResponseStatusException throwable) {
+    if (throwable.getStatus() != HttpStatus.NOT_FOUND) {
       return CoreException.builder()
-          .status(CoreExceptionStatus.NOT_FOUND)
-          .message(description)
+          .httpStatusCode(throwable.getStatus().value())
+          .status(CoreExceptionStatus.UNEXPECTED)
+          .message(throwable.getReason())
           .resolved(true)
           .build();
-    });
+    }
+    MessageTemplate template = ErrorMessages.from(exchange)
+        .getDescription(ErrorMessages.NOT_FOUND_DESCRIPTION);
+    String description = template != null
+        ? template.render(ErrorMessages.requestArguments(exchange)) : null;
+    return CoreException.builder()
+        .status(CoreExceptionStatus.NOT_FOUND)
+        .message(description)
+        .resolved(true)
+        .build();
   }
 }
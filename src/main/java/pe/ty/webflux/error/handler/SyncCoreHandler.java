@@ -0,0 +1,16 @@
+package pe.ty.webflux.error.handler;
+
+import org.springframework.web.server.ServerWebExchange;
+import pe.ty.core.exception.CoreException;
+import reactor.core.publisher.Mono;
+
+public interface SyncCoreHandler<T extends Throwable> extends CoreHandler<T> {
+
+  CoreException resolve(ServerWebExchange exchange, T throwable);
+
+  @Override
+  default Mono<CoreException> handle(ServerWebExchange exchange, T throwable) {
+    return Mono.fromCallable(() -> resolve(exchange, throwable));
+  }
+
+}
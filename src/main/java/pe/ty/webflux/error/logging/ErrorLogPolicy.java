@@ -0,0 +1,154 @@
+package pe.ty.webflux.error.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import pe.ty.core.exception.CoreException;
+import pe.ty.webflux.correlation.RequestIdWebFilter;
+import pe.ty.webflux.error.CoreExceptionNormalizer;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Bounds the log output of the exception handler: errors are sampled, rate limited per exception
+ * class with a token bucket, only server errors carry their stack trace and the suppressed
+ * entries are reported in a periodic summary line.
+ */
+@Slf4j
+public class ErrorLogPolicy implements AutoCloseable {
+
+  private final double samplingRatio;
+  private final long emissionIntervalNanos;
+  private final long burstToleranceNanos;
+  private final int stackTraceMinHttpStatus;
+  private final ConcurrentMap<Class<?>, TokenBucket> buckets;
+  private final Scheduler summaryScheduler;
+  private final Disposable summaryTask;
+
+  public ErrorLogPolicy(double samplingRatio, double permitsPerSecond, int burst,
+      int stackTraceMinHttpStatus, Duration summaryInterval) {
+    this.samplingRatio = samplingRatio;
+    this.emissionIntervalNanos =
+        permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    this.burstToleranceNanos = emissionIntervalNanos * Math.max(burst - 1, 0);
+    this.stackTraceMinHttpStatus = stackTraceMinHttpStatus;
+    this.buckets = new ConcurrentHashMap<>();
+    if (summaryInterval != null && !summaryInterval.isZero()) {
+      long intervalMillis = summaryInterval.toMillis();
+      this.summaryScheduler = Schedulers.newSingle("ty-error-log-summary", true);
+      this.summaryTask = summaryScheduler.schedulePeriodically(this::logSummary,
+          intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    } else {
+      this.summaryScheduler = null;
+      this.summaryTask = null;
+    }
+  }
+
+  public void log(Throwable ex, CoreException coreException, String requestId) {
+    int httpStatus = CoreExceptionNormalizer.resolveHttpStatus(coreException);
+    boolean serverError = httpStatus >= stackTraceMinHttpStatus;
+    if (serverError ? !log.isErrorEnabled() : !log.isInfoEnabled()) {
+      return;
+    }
+    TokenBucket bucket = bucket(ex.getClass());
+    if (!isSampled() || !bucket.tryAcquire(System.nanoTime())) {
+      bucket.suppressed.increment();
+      return;
+    }
+    if (requestId != null) {
+      MDC.put(RequestIdWebFilter.MDC_KEY, requestId);
+    }
+    try {
+      if (serverError) {
+        log.error("Handling exception [{}] {}: {}", httpStatus, coreException.getCode(),
+            coreException.getMessage(), ex);
+      } else {
+        log.info("Handling exception [{}] {}: {} ({})", httpStatus, coreException.getCode(),
+            coreException.getMessage(), ex.toString());
+      }
+    } finally {
+      if (requestId != null) {
+        MDC.remove(RequestIdWebFilter.MDC_KEY);
+      }
+    }
+  }
+
+  /**
+   * Counts an error that was answered without being logged, it is reported in the summary.
+   */
+  public void suppress(Throwable ex) {
+    bucket(ex.getClass()).suppressed.increment();
+  }
+
+  private boolean isSampled() {
+    return samplingRatio >= 1.0d || ThreadLocalRandom.current().nextDouble() < samplingRatio;
+  }
+
+  private TokenBucket bucket(Class<?> exceptionClass) {
+    TokenBucket bucket = buckets.get(exceptionClass);
+    if (bucket == null) {
+      bucket = buckets.computeIfAbsent(exceptionClass, key -> new TokenBucket());
+    }
+    return bucket;
+  }
+
+  void logSummary() {
+    StringBuilder summary = null;
+    long total = 0;
+    for (Map.Entry<Class<?>, TokenBucket> entry : buckets.entrySet()) {
+      long suppressed = entry.getValue().suppressed.sumThenReset();
+      if (suppressed > 0) {
+        summary = summary == null ? new StringBuilder() : summary.append(", ");
+        summary.append(entry.getKey().getName()).append('=').append(suppressed);
+        total += suppressed;
+      }
+    }
+    if (summary != null) {
+      log.warn("Suppressed {} exception log entries: {}", total, summary);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (summaryTask != null) {
+      summaryTask.dispose();
+      summaryScheduler.dispose();
+      logSummary();
+    }
+  }
+
+  /**
+   * Token bucket implemented as a generic cell rate algorithm, the whole state is the theoretical
+   * arrival time of the next permit so acquiring is a single compare and set.
+   */
+  private class TokenBucket {
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+    private final LongAdder suppressed = new LongAdder();
+
+    private boolean tryAcquire(long now) {
+      if (emissionIntervalNanos == 0) {
+        return true;
+      }
+      while (true) {
+        long current = theoreticalArrival.get();
+        long arrival = current == Long.MIN_VALUE ? now : Math.max(current, now);
+        if (arrival - now > burstToleranceNanos) {
+          return false;
+        }
+        if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+          return true;
+        }
+      }
+    }
+  }
+
+}
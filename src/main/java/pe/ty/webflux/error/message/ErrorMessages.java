@@ -0,0 +1,93 @@
+package pe.ty.webflux.error.message;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import pe.ty.core.exception.CoreExceptionStatus;
+
+/**
+ * Compiled message templates of one locale: messages per {@link CoreExceptionStatus} and per
+ * error code, and the descriptions rendered by the built-in handlers. Instances are immutable
+ * and shared by every request resolved to the same locale.
+ */
+public final class ErrorMessages {
+
+  public final static String EXCHANGE_ATTRIBUTE = ErrorMessages.class.getName();
+  public final static String NOT_FOUND_DESCRIPTION = "not-found";
+  public final static String METHOD_NOT_ALLOWED_DESCRIPTION = "method-not-allowed";
+
+  public final static Map<String, MessageTemplate> DEFAULT_DESCRIPTIONS;
+  public final static ErrorMessages DEFAULT;
+
+  static {
+    Map<String, MessageTemplate> descriptions = new LinkedHashMap<>();
+    descriptions.put(NOT_FOUND_DESCRIPTION,
+        MessageTemplate.compile("Not found -> HTTP {method} \"{path}\""));
+    descriptions.put(METHOD_NOT_ALLOWED_DESCRIPTION, MessageTemplate.compile(
+        "Method {method} is not supported on the next URI: \"{path}\" only: {supported}"));
+    DEFAULT_DESCRIPTIONS = Collections.unmodifiableMap(descriptions);
+    DEFAULT = new ErrorMessages(Locale.ROOT, new EnumMap<>(CoreExceptionStatus.class),
+        Collections.emptyMap(), DEFAULT_DESCRIPTIONS);
+  }
+
+  private final Locale locale;
+  private final Map<CoreExceptionStatus, MessageTemplate> statuses;
+  private final Map<String, MessageTemplate> codes;
+  private final Map<String, MessageTemplate> descriptions;
+
+  public ErrorMessages(Locale locale, Map<CoreExceptionStatus, MessageTemplate> statuses,
+      Map<String, MessageTemplate> codes, Map<String, MessageTemplate> descriptions) {
+    this.locale = locale;
+    this.statuses = statuses;
+    this.codes = codes;
+    this.descriptions = descriptions;
+  }
+
+  public Locale getLocale() {
+    return locale;
+  }
+
+  /**
+   * Template configured for the error code, or for the status when the code has none. Codes are
+   * matched ignoring case, the relaxed binder lower-cases keys not written in brackets.
+   */
+  public MessageTemplate getMessage(CoreExceptionStatus status, String code) {
+    MessageTemplate template = null;
+    if (code != null) {
+      template = codes.get(code);
+      if (template == null) {
+        template = codes.get(code.toLowerCase(Locale.ROOT));
+      }
+    }
+    return template != null ? template : statuses.get(status);
+  }
+
+  public MessageTemplate getDescription(String key) {
+    return descriptions.get(key);
+  }
+
+  /**
+   * Mutable {@code method} and {@code path} arguments of the request, the path keeps its raw
+   * query string.
+   */
+  public static Map<String, String> requestArguments(ServerWebExchange exchange) {
+    ServerHttpRequest request = exchange.getRequest();
+    String rawQuery = request.getURI().getRawQuery();
+    String path = request.getPath().value();
+    Map<String, String> arguments = new HashMap<>(8);
+    arguments.put("method", request.getMethodValue());
+    arguments.put("path", rawQuery == null || rawQuery.isEmpty() ? path : path + "?" + rawQuery);
+    return arguments;
+  }
+
+  public static ErrorMessages from(ServerWebExchange exchange) {
+    ErrorMessages messages = exchange.getAttribute(EXCHANGE_ATTRIBUTE);
+    return messages != null ? messages : DEFAULT;
+  }
+
+}
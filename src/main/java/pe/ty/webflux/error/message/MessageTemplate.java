@@ -0,0 +1,84 @@
+package pe.ty.webflux.error.message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Message with {@code {name}} placeholders parsed once into literal and placeholder parts.
+ * Placeholders without an argument are rendered as written, templates without placeholders
+ * render their constant text without allocating.
+ */
+public final class MessageTemplate {
+
+  private final static char OPEN = '{';
+  private final static char CLOSE = '}';
+
+  private final String source;
+  private final String[] literals;
+  private final String[] names;
+  private final int literalLength;
+
+  private MessageTemplate(String source, String[] literals, String[] names) {
+    this.source = source;
+    this.literals = literals;
+    this.names = names;
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.literalLength = length;
+  }
+
+  public static MessageTemplate compile(String source) {
+    List<String> literals = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    int start = 0;
+    int open = source.indexOf(OPEN);
+    while (open >= 0) {
+      int close = source.indexOf(CLOSE, open + 1);
+      if (close < 0) {
+        break;
+      }
+      literals.add(source.substring(start, open));
+      names.add(source.substring(open + 1, close));
+      start = close + 1;
+      open = source.indexOf(OPEN, start);
+    }
+    literals.add(source.substring(start));
+    return new MessageTemplate(source, literals.toArray(new String[0]),
+        names.toArray(new String[0]));
+  }
+
+  public boolean isConstant() {
+    return names.length == 0;
+  }
+
+  public String render() {
+    return render(Collections.emptyMap());
+  }
+
+  public String render(Map<String, String> arguments) {
+    if (names.length == 0) {
+      return source;
+    }
+    StringBuilder builder = new StringBuilder(literalLength + 16 * names.length);
+    for (int i = 0; i < names.length; i++) {
+      builder.append(literals[i]);
+      String value = arguments.get(names[i]);
+      if (value != null) {
+        builder.append(value);
+      } else {
+        builder.append(OPEN).append(names[i]).append(CLOSE);
+      }
+    }
+    return builder.append(literals[names.length]).toString();
+  }
+
+  @Override
+  public String toString() {
+    return source;
+  }
+
+}
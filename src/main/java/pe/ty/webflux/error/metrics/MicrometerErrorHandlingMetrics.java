@@ -0,0 +1,125 @@
+package pe.ty.webflux.error.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.error.CoreExceptionNormalizer;
+import pe.ty.webflux.error.ErrorHandlingMetrics;
+import pe.ty.webflux.error.handler.CoreHandler;
+
+/**
+ * Micrometer meters for the exception handling pipeline. Exception class tags are limited to
+ * {@code maxExceptionTags} distinct values, the rest are reported as {@value #OTHER_TAG}.
+ */
+public class MicrometerErrorHandlingMetrics implements ErrorHandlingMetrics {
+
+  public final static String ERRORS_METRIC = "ty.webflux.errors";
+  public final static String LATENCY_METRIC = "ty.webflux.errors.latency";
+  public final static String SELECTION_METRIC = "ty.webflux.errors.handler.selection";
+  public final static String ENCODING_METRIC = "ty.webflux.errors.encoding";
+  private final static String OTHER_TAG = "other";
+  private final static String NONE_TAG = "none";
+
+  private final MeterRegistry registry;
+  private final int maxExceptionTags;
+  private final Set<Class<?>> taggedExceptions;
+  private final ConcurrentMap<MeterKey, HandledMeters> handledMeters;
+  private final Timer selectionTimer;
+  private final Timer encodingTimer;
+
+  public MicrometerErrorHandlingMetrics(MeterRegistry registry, int maxExceptionTags) {
+    this.registry = registry;
+    this.maxExceptionTags = maxExceptionTags;
+    this.taggedExceptions = ConcurrentHashMap.newKeySet();
+    this.handledMeters = new ConcurrentHashMap<>();
+    this.selectionTimer = Timer.builder(SELECTION_METRIC)
+        .description("Time spent selecting the exception handler")
+        .register(registry);
+    this.encodingTimer = Timer.builder(ENCODING_METRIC)
+        .description("Time spent encoding error bodies")
+        .register(registry);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public void recordHandlerSelection(long nanos) {
+    selectionTimer.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void recordEncoding(long nanos) {
+    encodingTimer.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void recordHandled(Throwable throwable, CoreHandler<?> handler,
+      CoreException coreException, long nanos) {
+    MeterKey key = new MeterKey(exceptionTag(throwable.getClass()), handler.getClass(),
+        coreException.getStatus(), CoreExceptionNormalizer.resolveHttpStatus(coreException));
+    HandledMeters meters = handledMeters.get(key);
+    if (meters == null) {
+      meters = handledMeters.computeIfAbsent(key, this::createMeters);
+    }
+    meters.counter.increment();
+    meters.timer.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Class<?> exceptionTag(Class<?> exceptionClass) {
+    if (taggedExceptions.contains(exceptionClass)) {
+      return exceptionClass;
+    }
+    if (taggedExceptions.size() < maxExceptionTags && taggedExceptions.add(exceptionClass)) {
+      return exceptionClass;
+    }
+    return null;
+  }
+
+  private HandledMeters createMeters(MeterKey key) {
+    Tags tags = Tags.of(
+        "exception", key.exception == null ? OTHER_TAG : key.exception.getName(),
+        "handler", key.handler.getSimpleName(),
+        "status", key.status == null ? NONE_TAG : key.status.name(),
+        "http.status", String.valueOf(key.httpStatus));
+    return new HandledMeters(
+        Counter.builder(ERRORS_METRIC)
+            .description("Errors handled by the exception handler")
+            .tags(tags)
+            .register(registry),
+        Timer.builder(LATENCY_METRIC)
+            .description("Time from handling the error until its response is written")
+            .tags(tags)
+            .register(registry));
+  }
+
+  @EqualsAndHashCode
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class MeterKey {
+
+    private final Class<?> exception;
+    private final Class<?> handler;
+    private final CoreExceptionStatus status;
+    private final int httpStatus;
+  }
+
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class HandledMeters {
+
+    private final Counter counter;
+    private final Timer timer;
+  }
+
+}
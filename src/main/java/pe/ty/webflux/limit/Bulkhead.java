@@ -0,0 +1,201 @@
+package pe.ty.webflux.limit;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking concurrency limit with a bounded wait queue. Released permits are handed
+ * directly to the oldest waiter. When adaptive, the limit follows an AIMD rule on the observed
+ * latency: it grows by one while saturated and fast, and shrinks by the backoff ratio when slow,
+ * at most once per window.
+ */
+public class Bulkhead {
+
+  private final int maxLimit;
+  private final int maxWaiting;
+  private final Duration maxWait;
+  private final AtomicInteger inFlight;
+  private final AtomicInteger waiting;
+  private final AtomicInteger limit;
+  private final AtomicLong lastBackoff;
+  private final Queue<Waiter> waiters;
+  private final Adaptive adaptive;
+
+  public Bulkhead(int maxConcurrent, int maxWaiting, Duration maxWait, Adaptive adaptive) {
+    this.maxLimit = maxConcurrent;
+    this.maxWaiting = maxWaiting;
+    this.maxWait = maxWait;
+    this.inFlight = new AtomicInteger();
+    this.waiting = new AtomicInteger();
+    this.limit = new AtomicInteger(maxConcurrent);
+    this.lastBackoff = new AtomicLong(System.nanoTime() - (adaptive != null
+        ? adaptive.windowNanos : 0));
+    this.waiters = new ConcurrentLinkedQueue<>();
+    this.adaptive = adaptive;
+  }
+
+  public boolean tryAcquire() {
+    for (;;) {
+      int current = inFlight.get();
+      if (current >= limit.get()) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Subscribes to the action holding a permit and releases it when the action terminates or is
+   * cancelled, subscribes to the rejection when the queue is full or the wait times out.
+   */
+  public <T> Mono<T> guard(Mono<T> action, Mono<T> rejection) {
+    return Mono.defer(() -> tryAcquire() ? withPermit(action)
+        : acquire().flatMap(acquired -> acquired ? withPermit(action) : rejection));
+  }
+
+  private <T> Mono<T> withPermit(Mono<T> action) {
+    long start = System.nanoTime();
+    return action.doFinally(signal -> release(System.nanoTime() - start));
+  }
+
+  /**
+   * Emits {@code true} once a permit is granted, {@code false} when the queue is full or the
+   * wait times out. A permit granted while the subscriber is cancelled is given back.
+   */
+  private Mono<Boolean> acquire() {
+    if (waiting.incrementAndGet() > maxWaiting) {
+      waiting.decrementAndGet();
+      return Mono.just(false);
+    }
+    return Mono.create(sink -> {
+      Waiter waiter = new Waiter(sink);
+      waiter.timeout = Schedulers.parallel().schedule(() -> {
+        if (waiter.leave()) {
+          waiters.remove(waiter);
+          sink.success(false);
+        }
+      }, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+      sink.onCancel(() -> {
+        if (waiter.leave()) {
+          waiters.remove(waiter);
+          waiter.timeout.dispose();
+        } else if (waiter.isGranted()) {
+          release();
+        }
+      });
+      waiters.offer(waiter);
+      drain();
+    });
+  }
+
+  public void release(long latencyNanos) {
+    if (adaptive != null) {
+      adapt(latencyNanos);
+    }
+    release();
+  }
+
+  private void release() {
+    inFlight.decrementAndGet();
+    drain();
+  }
+
+  public int getLimit() {
+    return limit.get();
+  }
+
+  private void adapt(long latencyNanos) {
+    if (latencyNanos > adaptive.latencyThresholdNanos) {
+      long now = System.nanoTime();
+      long last = lastBackoff.get();
+      if (now - last >= adaptive.windowNanos && lastBackoff.compareAndSet(last, now)) {
+        limit.updateAndGet(current ->
+            Math.max(adaptive.minLimit, (int) (current * adaptive.backoffRatio)));
+      }
+    } else if (inFlight.get() >= limit.get()) {
+      limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+    }
+  }
+
+  private void drain() {
+    while (!waiters.isEmpty() && tryAcquire()) {
+      Waiter waiter;
+      do {
+        waiter = waiters.poll();
+      } while (waiter != null && !waiter.grant());
+      if (waiter == null) {
+        inFlight.decrementAndGet();
+        return;
+      }
+    }
+  }
+
+  /**
+   * A waiter leaves the queue exactly once, either granted or on timeout or cancellation. When
+   * the subscriber is cancelled after the grant but before the delivery the permit is released.
+   */
+  private class Waiter {
+
+    private final static int WAITING = 0;
+    private final static int GRANTED = 1;
+    private final static int LEFT = 2;
+
+    private final MonoSink<Boolean> sink;
+    private final AtomicInteger state;
+    private volatile Disposable timeout;
+
+    private Waiter(MonoSink<Boolean> sink) {
+      this.sink = sink;
+      this.state = new AtomicInteger(WAITING);
+    }
+
+    private boolean grant() {
+      if (!state.compareAndSet(WAITING, GRANTED)) {
+        return false;
+      }
+      waiting.decrementAndGet();
+      timeout.dispose();
+      sink.success(true);
+      return true;
+    }
+
+    private boolean leave() {
+      if (!state.compareAndSet(WAITING, LEFT)) {
+        return false;
+      }
+      waiting.decrementAndGet();
+      return true;
+    }
+
+    private boolean isGranted() {
+      return state.get() == GRANTED;
+    }
+  }
+
+  public static class Adaptive {
+
+    private final int minLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final long windowNanos;
+
+    public Adaptive(int minLimit, Duration latencyThreshold, double backoffRatio,
+        Duration window) {
+      this.minLimit = minLimit;
+      this.latencyThresholdNanos = latencyThreshold.toNanos();
+      this.backoffRatio = backoffRatio;
+      this.windowNanos = window.toNanos();
+    }
+  }
+
+}
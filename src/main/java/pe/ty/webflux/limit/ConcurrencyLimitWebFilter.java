@@ -0,0 +1,69 @@
+package pe.ty.webflux.limit;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import reactor.core.publisher.Mono;
+
+/**
+ * Guards each configured path pattern with its own {@link Bulkhead}, the first matching route
+ * applies. Rejected requests fail with a {@link CoreException} carrying the configured status
+ * and {@code Retry-After} header, built per request so no rejection shares its headers.
+ */
+public class ConcurrencyLimitWebFilter implements WebFilter {
+
+  private final List<Route> routes;
+
+  public ConcurrencyLimitWebFilter(List<Route> routes) {
+    this.routes = routes;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+    for (Route route : routes) {
+      if (route.pattern.matches(path)) {
+        return route.bulkhead.guard(Mono.defer(() -> chain.filter(exchange)),
+            Mono.error(route::rejection));
+      }
+    }
+    return chain.filter(exchange);
+  }
+
+  public static class Route {
+
+    private final PathPattern pattern;
+    private final Bulkhead bulkhead;
+    private final int rejectStatus;
+    private final String retryAfter;
+    private final String rejectMessage;
+
+    public Route(PathPattern pattern, Bulkhead bulkhead, int rejectStatus, Duration retryAfter) {
+      this.pattern = pattern;
+      this.bulkhead = bulkhead;
+      this.rejectStatus = rejectStatus;
+      this.retryAfter = String.valueOf(Math.max(1, retryAfter.getSeconds()));
+      this.rejectMessage =
+          "Too many concurrent requests for \"" + pattern.getPatternString() + "\"";
+    }
+
+    CoreException rejection() {
+      return CoreException.builder()
+          .httpStatusCode(rejectStatus)
+          .status(CoreExceptionStatus.UNEXPECTED)
+          .message(rejectMessage)
+          .headers(Collections.singletonMap(HttpHeaders.RETRY_AFTER, retryAfter))
+          .resolved(true)
+          .build();
+    }
+  }
+
+}
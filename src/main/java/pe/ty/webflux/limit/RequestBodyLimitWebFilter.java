@@ -0,0 +1,68 @@
+package pe.ty.webflux.limit;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rejects request bodies over the configured size with a {@link DataBufferLimitException}.
+ * Requests declaring a {@code Content-Length} are checked upfront, the rest are counted while
+ * the body is read.
+ */
+public class RequestBodyLimitWebFilter implements WebFilter {
+
+  private final long maxRequestBody;
+
+  public RequestBodyLimitWebFilter(long maxRequestBody) {
+    this.maxRequestBody = maxRequestBody;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    long contentLength = exchange.getRequest().getHeaders().getContentLength();
+    if (contentLength > maxRequestBody) {
+      return Mono.error(limitException());
+    }
+    if (contentLength >= 0) {
+      return chain.filter(exchange);
+    }
+    return chain.filter(exchange.mutate()
+        .request(new LimitedRequest(exchange.getRequest()))
+        .build());
+  }
+
+  private DataBufferLimitException limitException() {
+    return new DataBufferLimitException(
+        "Exceeded limit on max request body size: " + maxRequestBody);
+  }
+
+  private class LimitedRequest extends ServerHttpRequestDecorator {
+
+    private long read;
+
+    private LimitedRequest(ServerHttpRequest delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public Flux<DataBuffer> getBody() {
+      return super.getBody().handle((buffer, sink) -> {
+        read += buffer.readableByteCount();
+        if (read > maxRequestBody) {
+          DataBufferUtils.release(buffer);
+          sink.error(limitException());
+        } else {
+          sink.next(buffer);
+        }
+      });
+    }
+  }
+
+}
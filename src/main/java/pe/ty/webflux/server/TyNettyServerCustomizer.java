@@ -0,0 +1,75 @@
+package pe.ty.webflux.server;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import reactor.netty.channel.BootstrapHandlers;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.HttpResources;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+@Slf4j
+@Builder
+public class TyNettyServerCustomizer implements NettyServerCustomizer {
+
+  private final static String IDLE_STATE_HANDLER = "tyIdleStateHandler";
+  private final static String IDLE_CLOSE_HANDLER = "tyIdleCloseHandler";
+
+  private final LoopResources loopResources;
+  private final boolean preferNative;
+  private final Integer soBacklog;
+  private final boolean tcpNoDelay;
+  private final Duration idleTimeout;
+  private final boolean h2c;
+  private final Integer compressionMinResponseSize;
+
+  @Override
+  public HttpServer apply(HttpServer httpServer) {
+    HttpServer server = httpServer.tcpConfiguration(tcpServer -> {
+      tcpServer = tcpServer.option(ChannelOption.TCP_NODELAY, tcpNoDelay);
+      tcpServer = tcpServer.runOn(loopResources != null ? loopResources : HttpResources.get(),
+          preferNative);
+      if (soBacklog != null) {
+        tcpServer = tcpServer.selectorOption(ChannelOption.SO_BACKLOG, soBacklog);
+      }
+      if (idleTimeout != null) {
+        long idleMillis = idleTimeout.toMillis();
+        tcpServer = tcpServer.bootstrap(bootstrap -> BootstrapHandlers.updateConfiguration(
+            bootstrap, IDLE_STATE_HANDLER, (observer, channel) -> channel.pipeline()
+                .addFirst(IDLE_CLOSE_HANDLER, new IdleCloseHandler())
+                .addFirst(IDLE_STATE_HANDLER,
+                    new IdleStateHandler(0, 0, idleMillis, TimeUnit.MILLISECONDS))));
+      }
+      return tcpServer;
+    });
+    if (h2c) {
+      server = server.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+    if (compressionMinResponseSize != null) {
+      server = server.compress(compressionMinResponseSize);
+    }
+    return server;
+  }
+
+  private static class IdleCloseHandler extends ChannelDuplexHandler {
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+      if (evt instanceof IdleStateEvent) {
+        log.debug("Closing idle connection {}", ctx.channel());
+        ctx.close();
+        return;
+      }
+      super.userEventTriggered(ctx, evt);
+    }
+  }
+
+}
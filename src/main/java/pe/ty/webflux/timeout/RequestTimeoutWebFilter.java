@@ -0,0 +1,72 @@
+package pe.ty.webflux.timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies a server side deadline to the filter chain, the first matching route wins over the
+ * default timeout. When the deadline passes the chain is cancelled, releasing downstream calls
+ * and queries still in flight, and a {@link CoreException} with {@code TIMEOUT} status is
+ * rendered by the exception handler. The exception is built per request, so its headers and
+ * cause are never shared. A zero timeout disables the deadline for the route.
+ */
+public class RequestTimeoutWebFilter implements WebFilter {
+
+  private final List<Route> routes;
+  private final Route defaultRoute;
+
+  public RequestTimeoutWebFilter(List<Route> routes, Route defaultRoute) {
+    this.routes = routes;
+    this.defaultRoute = defaultRoute;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    Route route = findRoute(exchange.getRequest().getPath().pathWithinApplication());
+    if (route == null || route.timeout.isZero()) {
+      return chain.filter(exchange);
+    }
+    return chain.filter(exchange).timeout(route.timeout, Mono.error(route::timeoutException));
+  }
+
+  private Route findRoute(PathContainer path) {
+    for (Route route : routes) {
+      if (route.pattern.matches(path)) {
+        return route;
+      }
+    }
+    return defaultRoute;
+  }
+
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  public static class Route {
+
+    private final PathPattern pattern;
+    private final Duration timeout;
+    private final String timeoutMessage;
+
+    public static Route of(PathPattern pattern, Duration timeout) {
+      return new Route(pattern, timeout,
+          "Request not completed within " + timeout.toMillis() + "ms");
+    }
+
+    private CoreException timeoutException() {
+      return CoreException.builder()
+          .status(CoreExceptionStatus.TIMEOUT)
+          .cause(new TimeoutException(timeoutMessage))
+          .build();
+    }
+  }
+
+}
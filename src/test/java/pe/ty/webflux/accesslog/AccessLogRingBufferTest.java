@@ -0,0 +1,113 @@
+package pe.ty.webflux.accesslog;
+
+import java.util.BitSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AccessLogRingBufferTest {
+
+  @Test
+  void whenCapacityIsNotPowerOfTwo_thenRoundUp() {
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(3);
+    for (int i = 0; i < 4; i++) {
+      Assertions.assertEquals(i, buffer.claim());
+    }
+    Assertions.assertEquals(-1, buffer.claim());
+  }
+
+  @Test
+  void whenPositionsWrapAround_thenReuseSlotsInOrder() {
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+    for (int i = 0; i < 10; i++) {
+      long position = buffer.claim();
+      Assertions.assertEquals(i, position);
+      buffer.get(position).status = i;
+      buffer.publish(position);
+
+      AccessLogRecord record = buffer.poll();
+      Assertions.assertNotNull(record);
+      Assertions.assertEquals(i, record.status);
+      buffer.release();
+      Assertions.assertNull(buffer.poll());
+    }
+  }
+
+  @Test
+  void whenFull_thenFailClaimUntilReleased() {
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(2);
+    buffer.publish(buffer.claim());
+    buffer.publish(buffer.claim());
+    Assertions.assertEquals(-1, buffer.claim());
+
+    Assertions.assertNotNull(buffer.poll());
+    buffer.release();
+    Assertions.assertEquals(2, buffer.claim());
+  }
+
+  @Test
+  void whenClaimedButNotPublished_thenConsumerWaits() {
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(2);
+    long first = buffer.claim();
+    buffer.publish(buffer.claim());
+    Assertions.assertNull(buffer.poll());
+
+    buffer.publish(first);
+    Assertions.assertNotNull(buffer.poll());
+  }
+
+  @Test
+  void whenManyProducers_thenConsumeEveryRecordOnce() throws Exception {
+    int producers = 4;
+    int recordsPerProducer = 20_000;
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(64);
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      for (int p = 0; p < producers; p++) {
+        int offset = p * recordsPerProducer;
+        executor.execute(() -> {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+          for (int i = 0; i < recordsPerProducer; i++) {
+            long position;
+            while ((position = buffer.claim()) < 0) {
+              Thread.yield();
+            }
+            buffer.get(position).status = offset + i;
+            buffer.publish(position);
+          }
+        });
+      }
+      start.countDown();
+
+      int total = producers * recordsPerProducer;
+      BitSet consumed = new BitSet(total);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      for (int count = 0; count < total; ) {
+        AccessLogRecord record = buffer.poll();
+        if (record == null) {
+          Assertions.assertTrue(System.nanoTime() < deadline, "Consumed only " + count);
+          Thread.yield();
+          continue;
+        }
+        Assertions.assertFalse(consumed.get(record.status), "Consumed twice " + record.status);
+        consumed.set(record.status);
+        buffer.release();
+        count++;
+      }
+      Assertions.assertEquals(total, consumed.cardinality());
+      Assertions.assertNull(buffer.poll());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+}
@@ -0,0 +1,133 @@
+package pe.ty.webflux.accesslog;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.autoconfigure.TyJacksonAutoConfiguration;
+import pe.ty.webflux.autoconfigure.TyReactiveExceptionHandlerAutoConfiguration;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class AccessLogWebFilterTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class,
+              TyReactiveExceptionHandlerAutoConfiguration.class))
+          .withPropertyValues("application.error.not-found.code=ER0004")
+          .withUserConfiguration(AccessLogConfiguration.class, HelloController.class);
+
+  @Test
+  void whenStreamed_thenRecordWrittenBytes() {
+    contextRunner.run(context -> {
+      WebTestClient.bindToApplicationContext(context).build()
+          .get().uri("/stream")
+          .exchange()
+          .expectStatus().isOk()
+          .expectBody(String.class).isEqualTo("abc");
+
+      String entry = context.getBean(RecordingWriter.class).next();
+      Assertions.assertEquals("GET /stream 200 3 null/null", entry);
+    });
+  }
+
+  @Test
+  void whenErrorRendered_thenRecordErrorAndContentLength() {
+    contextRunner.run(context -> {
+      long length = WebTestClient.bindToApplicationContext(context).build()
+          .get().uri("/missing")
+          .exchange()
+          .expectStatus().isNotFound()
+          .expectBody().returnResult().getResponseHeaders().getContentLength();
+
+      String entry = context.getBean(RecordingWriter.class).next();
+      Assertions.assertTrue(length > 0);
+      Assertions.assertEquals("GET /missing 404 " + length + " ER0004/NOT_FOUND", entry);
+    });
+  }
+
+  @Test
+  void whenCancelledBeforeCommit_thenRecordClientClosedRequest() throws Exception {
+    RecordingWriter writer = new RecordingWriter();
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(MockServerHttpRequest.get("/never"));
+
+    StepVerifier.create(new AccessLogWebFilter(writer).filter(exchange, e -> Mono.never()))
+        .expectSubscription()
+        .thenCancel()
+        .verify();
+
+    Assertions.assertEquals("GET /never " + AccessLogWebFilter.CLIENT_CLOSED_REQUEST + " 0"
+        + " null/null", writer.next());
+    Assertions.assertNull(writer.entries.poll(100, TimeUnit.MILLISECONDS));
+    writer.close();
+  }
+
+  static class RecordingWriter extends AccessLogWriter {
+
+    private final BlockingQueue<String> entries = new LinkedBlockingQueue<>();
+
+    RecordingWriter() {
+      super("test.access-log", 16, 16, Duration.ofMillis(10), true, Duration.ZERO);
+    }
+
+    @Override
+    public boolean isEnabled() {
+      return true;
+    }
+
+    @Override
+    public void write(String method, String path, int status, long bytes, long durationNanos,
+        String requestId, String errorCode, CoreExceptionStatus errorStatus) {
+      entries.add(method + " " + path + " " + status + " " + bytes + " " + errorCode + "/"
+          + errorStatus);
+    }
+
+    String next() throws InterruptedException {
+      return entries.poll(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Configuration
+  static class AccessLogConfiguration {
+
+    @Bean
+    public RecordingWriter recordingWriter() {
+      return new RecordingWriter();
+    }
+
+    @Bean
+    public AccessLogWebFilter accessLogWebFilter(RecordingWriter recordingWriter) {
+      return new AccessLogWebFilter(recordingWriter);
+    }
+  }
+
+  @RestController
+  static class HelloController {
+
+    @GetMapping("/stream")
+    public Flux<String> stream() {
+      return Flux.just("a", "bc");
+    }
+  }
+
+}
@@ -0,0 +1,33 @@
+package pe.ty.webflux.accesslog;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AccessLogWriterTest {
+
+  @Test
+  void whenBufferFullAndDropOnFull_thenCountDropped() {
+    AccessLogWriter writer = new AccessLogWriter("test.access-log", 4, 16,
+        Duration.ofMillis(1), true, Duration.ZERO);
+    writer.close();
+
+    for (int i = 0; i < 6; i++) {
+      writer.write("GET", "/hello", 200, 5, 1000, null, null, null);
+    }
+    Assertions.assertEquals(2, writer.getDropped());
+  }
+
+  @Test
+  void whenBufferFullAndNotDropOnFull_thenWriteOnCaller() {
+    AccessLogWriter writer = new AccessLogWriter("test.access-log", 4, 16,
+        Duration.ofMillis(1), false, Duration.ZERO);
+    writer.close();
+
+    for (int i = 0; i < 6; i++) {
+      writer.write("GET", "/hello", 200, 5, 1000, null, null, null);
+    }
+    Assertions.assertEquals(0, writer.getDropped());
+  }
+
+}
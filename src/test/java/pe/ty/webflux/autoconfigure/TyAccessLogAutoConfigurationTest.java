@@ -0,0 +1,46 @@
+package pe.ty.webflux.autoconfigure;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import pe.ty.webflux.accesslog.AccessLogWebFilter;
+import pe.ty.webflux.accesslog.AccessLogWriter;
+
+class TyAccessLogAutoConfigurationTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(TyAccessLogAutoConfiguration.class));
+
+  @Test
+  void whenNotEnabled_thenBackOff() {
+    contextRunner.run(context -> Assertions.assertThat(context)
+        .doesNotHaveBean(AccessLogWebFilter.class)
+        .doesNotHaveBean(AccessLogWriter.class));
+  }
+
+  @Test
+  void whenEnabled_thenConfigureFilter() {
+    contextRunner.withPropertyValues("ty.webflux.access-log.enabled=true",
+        "ty.webflux.access-log.buffer-size=64")
+        .run(context -> {
+          Assertions.assertThat(context)
+              .hasSingleBean(AccessLogWebFilter.class)
+              .hasSingleBean(AccessLogWriter.class);
+          Assertions.assertThat(context.getBean(TyAccessLogProperties.class).getBufferSize())
+              .isEqualTo(64);
+        });
+  }
+
+  @Test
+  void whenNotReactiveWebApplication_thenBackOff() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TyAccessLogAutoConfiguration.class))
+        .withPropertyValues("ty.webflux.access-log.enabled=true")
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean(AccessLogWebFilter.class));
+  }
+
+}
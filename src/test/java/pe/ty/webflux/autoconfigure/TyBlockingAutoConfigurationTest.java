@@ -0,0 +1,52 @@
+package pe.ty.webflux.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import pe.ty.webflux.blocking.BlockHoundInstaller;
+import pe.ty.webflux.blocking.BlockingMetrics;
+import pe.ty.webflux.blocking.BlockingOffload;
+import pe.ty.webflux.blocking.MicrometerBlockingMetrics;
+
+class TyBlockingAutoConfigurationTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(TyBlockingAutoConfiguration.class));
+
+  @Test
+  void whenReactiveWebApplication_thenConfigureOffload() {
+    contextRunner.run(context -> {
+      Assertions.assertThat(context)
+          .hasSingleBean(BlockingOffload.class)
+          .doesNotHaveBean(BlockHoundInstaller.class);
+      Assertions.assertThat(context.getBean(BlockingMetrics.class))
+          .isSameAs(BlockingMetrics.NONE);
+    });
+  }
+
+  @Test
+  void whenMeterRegistryPresent_thenUseMicrometerMetrics() {
+    contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .run(context -> Assertions.assertThat(context.getBean(BlockingMetrics.class))
+            .isInstanceOf(MicrometerBlockingMetrics.class));
+  }
+
+  @Test
+  void whenBlockHoundEnabled_thenRegisterInstaller() {
+    contextRunner.withPropertyValues("ty.webflux.blocking.block-hound.enabled=true")
+        .run(context -> Assertions.assertThat(context).hasSingleBean(BlockHoundInstaller.class));
+  }
+
+  @Test
+  void whenNotReactiveWebApplication_thenBackOff() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TyBlockingAutoConfiguration.class))
+        .run(context -> Assertions.assertThat(context).doesNotHaveBean(BlockingOffload.class));
+  }
+
+}
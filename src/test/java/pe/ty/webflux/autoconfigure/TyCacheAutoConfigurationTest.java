@@ -0,0 +1,42 @@
+package pe.ty.webflux.autoconfigure;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import pe.ty.webflux.cache.ResponseCache;
+import pe.ty.webflux.cache.ResponseCacheWebFilter;
+
+class TyCacheAutoConfigurationTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(TyCacheAutoConfiguration.class));
+
+  @Test
+  void whenNotEnabled_thenBackOff() {
+    contextRunner.run(context -> Assertions.assertThat(context)
+        .doesNotHaveBean(ResponseCacheWebFilter.class)
+        .doesNotHaveBean(ResponseCache.class));
+  }
+
+  @Test
+  void whenEnabled_thenConfigureFilter() {
+    contextRunner.withPropertyValues("ty.webflux.cache.enabled=true",
+        "ty.webflux.cache.path-patterns=/catalog/**")
+        .run(context -> Assertions.assertThat(context)
+            .hasSingleBean(ResponseCacheWebFilter.class)
+            .hasSingleBean(ResponseCache.class));
+  }
+
+  @Test
+  void whenNotReactiveWebApplication_thenBackOff() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TyCacheAutoConfiguration.class))
+        .withPropertyValues("ty.webflux.cache.enabled=true")
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean(ResponseCacheWebFilter.class));
+  }
+
+}
@@ -0,0 +1,74 @@
+package pe.ty.webflux.autoconfigure;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pe.ty.webflux.correlation.RequestIdWebFilter;
+import reactor.core.publisher.Mono;
+
+class TyCorrelationAutoConfigurationTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class,
+              TyReactiveExceptionHandlerAutoConfiguration.class,
+              TyCorrelationAutoConfiguration.class))
+          .withUserConfiguration(RequestIdController.class);
+
+  @Test
+  void whenRequestHandled_thenRequestIdIsInContextAndResponse() {
+    contextRunner.run(context -> WebTestClient.bindToApplicationContext(context).build()
+        .get().uri("/request-id")
+        .header("X-Request-Id", "abc-123")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals("X-Request-Id", "abc-123")
+        .expectBody(String.class).isEqualTo("abc-123"));
+  }
+
+  @Test
+  void whenRequestFails_thenErrorResponseKeepsRequestId() {
+    contextRunner.withPropertyValues("ty.webflux.correlation.header-name=X-Trace-Id")
+        .run(context -> WebTestClient.bindToApplicationContext(context).build()
+            .get().uri("/missing")
+            .header("X-Trace-Id", "trace-1")
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectHeader().valueEquals("X-Trace-Id", "trace-1"));
+  }
+
+  @Test
+  void whenDisabled_thenBackOff() {
+    contextRunner.withPropertyValues("ty.webflux.correlation.enabled=false")
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean(RequestIdWebFilter.class));
+  }
+
+  @Test
+  void whenNotReactiveWebApplication_thenBackOff() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TyCorrelationAutoConfiguration.class))
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean(RequestIdWebFilter.class));
+  }
+
+  @RestController
+  static class RequestIdController {
+
+    @GetMapping("/request-id")
+    public Mono<String> requestId() {
+      return RequestIdWebFilter.currentRequestId();
+    }
+  }
+
+}
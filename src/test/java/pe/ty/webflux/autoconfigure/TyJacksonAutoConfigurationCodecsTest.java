@@ -0,0 +1,140 @@
+package pe.ty.webflux.autoconfigure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.Collections;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import reactor.core.publisher.Mono;
+
+class TyJacksonAutoConfigurationCodecsTest {
+
+  private final static MediaType APPLICATION_SMILE =
+      MediaType.valueOf("application/x-jackson-smile");
+  private final static MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class,
+              TyReactiveExceptionHandlerAutoConfiguration.class))
+          .withUserConfiguration(CodecsController.class);
+
+  @Test
+  void whenNoAccept_thenWriteJson() {
+    contextRunner.run(context -> WebTestClient.bindToApplicationContext(context).build()
+        .get().uri("/codecs")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(MediaType.APPLICATION_JSON)
+        .expectBody().jsonPath("$.greeting").isEqualTo("hello"));
+  }
+
+  @Test
+  void whenAcceptJson_thenNotEncodedByBinaryCodecs() {
+    contextRunner.run(context -> WebTestClient.bindToApplicationContext(context).build()
+        .get().uri("/codecs")
+        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentType(MediaType.APPLICATION_JSON)
+        .expectBody().jsonPath("$.greeting").isEqualTo("hello"));
+  }
+
+  @Test
+  void whenAcceptSmile_thenWriteSmile() {
+    contextRunner.run(context -> {
+      byte[] body = WebTestClient.bindToApplicationContext(context).build()
+          .get().uri("/codecs")
+          .header(HttpHeaders.ACCEPT, APPLICATION_SMILE.toString())
+          .exchange()
+          .expectStatus().isOk()
+          .expectHeader().contentTypeCompatibleWith(APPLICATION_SMILE)
+          .expectBody(byte[].class).returnResult().getResponseBody();
+      JsonNode node = new ObjectMapper(new SmileFactory()).readTree(body);
+      Assertions.assertThat(node.get("greeting").asText()).isEqualTo("hello");
+    });
+  }
+
+  @Test
+  void whenAcceptCbor_thenWriteCbor() {
+    contextRunner.run(context -> {
+      byte[] body = WebTestClient.bindToApplicationContext(context).build()
+          .get().uri("/codecs")
+          .header(HttpHeaders.ACCEPT, APPLICATION_CBOR.toString())
+          .exchange()
+          .expectStatus().isOk()
+          .expectHeader().contentTypeCompatibleWith(APPLICATION_CBOR)
+          .expectBody(byte[].class).returnResult().getResponseBody();
+      JsonNode node = new ObjectMapper(new CBORFactory()).readTree(body);
+      Assertions.assertThat(node.get("greeting").asText()).isEqualTo("hello");
+    });
+  }
+
+  @Test
+  void whenAcceptCborOnError_thenWriteCborErrorBody() {
+    contextRunner.run(context -> {
+      byte[] body = WebTestClient.bindToApplicationContext(context).build()
+          .get().uri("/codecs/error")
+          .header(HttpHeaders.ACCEPT, APPLICATION_CBOR.toString())
+          .exchange()
+          .expectStatus().isNotFound()
+          .expectHeader().contentTypeCompatibleWith(APPLICATION_CBOR)
+          .expectBody(byte[].class).returnResult().getResponseBody();
+      JsonNode node = new ObjectMapper(new CBORFactory()).readTree(body);
+      Assertions.assertThat(node.get("code").asText()).isEqualTo("ER0004");
+    });
+  }
+
+  @Test
+  void whenBinaryCodecsDisabled_thenOnlyJsonIsNegotiated() {
+    contextRunner.withPropertyValues("ty.webflux.jackson.smile.enabled=false",
+        "ty.webflux.jackson.cbor.enabled=false")
+        .run(context -> {
+          Assertions.assertThat(context).doesNotHaveBean("smileCodecCustomizer")
+              .doesNotHaveBean("cborCodecCustomizer");
+          WebTestClient.bindToApplicationContext(context).build()
+              .get().uri("/codecs")
+              .header(HttpHeaders.ACCEPT, APPLICATION_CBOR.toString())
+              .exchange()
+              .expectStatus().isEqualTo(HttpStatus.NOT_ACCEPTABLE)
+              .expectHeader().contentType(MediaType.APPLICATION_JSON);
+        });
+  }
+
+  @RestController
+  static class CodecsController {
+
+    @GetMapping("/codecs")
+    public Mono<Map<String, String>> hello() {
+      return Mono.just(Collections.singletonMap("greeting", "hello"));
+    }
+
+    @GetMapping("/codecs/error")
+    public Mono<Map<String, String>> error() {
+      return Mono.error(CoreException.builder()
+          .status(CoreExceptionStatus.NOT_FOUND)
+          .code("ER0004")
+          .resolved(true)
+          .build());
+    }
+  }
+
+}
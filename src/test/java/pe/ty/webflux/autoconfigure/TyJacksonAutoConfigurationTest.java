@@ -0,0 +1,84 @@
+package pe.ty.webflux.autoconfigure;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledOnJre;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class TyJacksonAutoConfigurationTest {
+
+  private final static String AFTERBURNER_ID = AfterburnerModule.class.getName();
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+          TyJacksonAutoConfiguration.class));
+
+  @Test
+  void whenConfigured_thenExcludeNullValues() {
+    contextRunner.run(context -> Assertions.assertThat(context.getBean(ObjectMapper.class)
+        .getSerializationConfig().getDefaultPropertyInclusion().getValueInclusion())
+        .isEqualTo(Include.NON_NULL));
+  }
+
+  @Test
+  void whenNoObjectMapper_thenBackOff() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TyJacksonAutoConfiguration.class))
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean(TyJacksonAutoConfiguration.class));
+  }
+
+  @Test
+  void whenAcceleratorNotSet_thenRegisterNothing() {
+    contextRunner.run(context -> {
+      Assertions.assertThat(context)
+          .doesNotHaveBean("jacksonAcceleratorCustomizer");
+      Assertions.assertThat(context.getBean(ObjectMapper.class).getRegisteredModuleIds())
+          .doesNotContain(AFTERBURNER_ID);
+    });
+  }
+
+  @Test
+  void whenAfterburnerRequested_thenRegisterThroughBuilder() {
+    contextRunner.withPropertyValues("ty.webflux.jackson.accelerator=afterburner")
+        .run(context -> {
+          Assertions.assertThat(context).hasBean("jacksonAcceleratorCustomizer");
+          Assertions.assertThat(context.getBean(ObjectMapper.class).getRegisteredModuleIds())
+              .contains(AFTERBURNER_ID);
+        });
+  }
+
+  @Test
+  void whenBlackbirdMissing_thenRegisterNothing() {
+    contextRunner.withPropertyValues("ty.webflux.jackson.accelerator=blackbird")
+        .run(context -> Assertions.assertThat(context.getBean(ObjectMapper.class)
+            .getRegisteredModuleIds()).doesNotContain(AFTERBURNER_ID));
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_11)
+  void whenAutoWithoutBlackbirdOnJava11_thenDoNotFallBackToAfterburner() {
+    contextRunner.withPropertyValues("ty.webflux.jackson.accelerator=auto")
+        .run(context -> {
+          Assertions.assertThat(context).hasBean("jacksonAcceleratorCustomizer");
+          Assertions.assertThat(context.getBean(ObjectMapper.class).getRegisteredModuleIds())
+              .doesNotContain(AFTERBURNER_ID);
+        });
+  }
+
+  @Test
+  @EnabledOnJre(JRE.JAVA_8)
+  void whenAutoOnJava8_thenRegisterAfterburner() {
+    contextRunner.withPropertyValues("ty.webflux.jackson.accelerator=auto")
+        .run(context -> Assertions.assertThat(context.getBean(ObjectMapper.class)
+            .getRegisteredModuleIds()).contains(AFTERBURNER_ID));
+  }
+
+}
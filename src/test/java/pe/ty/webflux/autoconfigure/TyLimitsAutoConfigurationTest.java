@@ -0,0 +1,138 @@
+package pe.ty.webflux.autoconfigure;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import pe.ty.webflux.limit.ConcurrencyLimitWebFilter;
+import pe.ty.webflux.limit.RequestBodyLimitWebFilter;
+import reactor.core.publisher.Mono;
+
+class TyLimitsAutoConfigurationTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class,
+              TyReactiveExceptionHandlerAutoConfiguration.class,
+              TyLimitsAutoConfiguration.class))
+          .withUserConfiguration(EchoController.class);
+
+  @Test
+  void whenNoLimitsConfigured_thenKeepBootDefaults() {
+    contextRunner.run(context -> {
+      Assertions.assertThat(context)
+          .doesNotHaveBean("limitsCodecCustomizer")
+          .doesNotHaveBean("nettyLimitsCustomizer")
+          .doesNotHaveBean(RequestBodyLimitWebFilter.class)
+          .doesNotHaveBean(ConcurrencyLimitWebFilter.class);
+      Assertions.assertThat(jsonDecoderMaxInMemorySize(context)).isEqualTo(256 * 1024);
+    });
+  }
+
+  @Test
+  void whenMaxInMemorySizeConfigured_thenApplyToCodecs() {
+    contextRunner.withPropertyValues("ty.webflux.limits.max-in-memory-size=1KB")
+        .run(context -> Assertions.assertThat(jsonDecoderMaxInMemorySize(context))
+            .isEqualTo(1024));
+  }
+
+  @Test
+  void whenBootCodecPropertyConfigured_thenBootPropertyWins() {
+    contextRunner.withPropertyValues("ty.webflux.limits.max-in-memory-size=1KB",
+        "spring.codec.max-in-memory-size=2KB")
+        .run(context -> Assertions.assertThat(jsonDecoderMaxInMemorySize(context))
+            .isEqualTo(2048));
+  }
+
+  @Test
+  void whenMaxHeaderSizeConfigured_thenCustomizeNetty() {
+    contextRunner.withPropertyValues("ty.webflux.limits.max-header-size=16KB")
+        .run(context -> Assertions.assertThat(context).hasBean("nettyLimitsCustomizer"));
+  }
+
+  @Test
+  void whenBootHeaderPropertyConfigured_thenBackOff() {
+    contextRunner.withPropertyValues("ty.webflux.limits.max-header-size=16KB",
+        "server.max-http-header-size=32KB")
+        .run(context -> Assertions.assertThat(context).doesNotHaveBean("nettyLimitsCustomizer"));
+  }
+
+  @Test
+  void whenRequestBodyOverLimit_thenRespondPayloadTooLarge() {
+    contextRunner.withPropertyValues("ty.webflux.limits.max-request-body=8B")
+        .run(context -> {
+          WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+          client.post().uri("/echo")
+              .contentType(MediaType.TEXT_PLAIN)
+              .bodyValue("123456789")
+              .exchange()
+              .expectStatus().isEqualTo(413);
+          client.post().uri("/echo")
+              .contentType(MediaType.TEXT_PLAIN)
+              .bodyValue("12345678")
+              .exchange()
+              .expectStatus().isOk()
+              .expectBody(String.class).isEqualTo("12345678");
+        });
+  }
+
+  @Test
+  void whenRouteSaturated_thenRespondWithRetryAfter() {
+    contextRunner.withPropertyValues("ty.webflux.limits.concurrency.enabled=true",
+        "ty.webflux.limits.concurrency.retry-after=5s",
+        "ty.webflux.limits.concurrency.routes[0].path-pattern=/echo",
+        "ty.webflux.limits.concurrency.routes[0].max-concurrent=0")
+        .run(context -> WebTestClient.bindToApplicationContext(context).build()
+            .post().uri("/echo")
+            .contentType(MediaType.TEXT_PLAIN)
+            .bodyValue("body")
+            .exchange()
+            .expectStatus().isEqualTo(503)
+            .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "5"));
+  }
+
+  @Test
+  void whenNotReactiveWebApplication_thenBackOff() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TyLimitsAutoConfiguration.class))
+        .withPropertyValues("ty.webflux.limits.max-request-body=8B")
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean(RequestBodyLimitWebFilter.class));
+  }
+
+  private static int jsonDecoderMaxInMemorySize(ApplicationContext context) {
+    return context.getBean(ServerCodecConfigurer.class).getReaders().stream()
+        .filter(DecoderHttpMessageReader.class::isInstance)
+        .map(reader -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+        .filter(Jackson2JsonDecoder.class::isInstance)
+        .map(decoder -> ((Jackson2JsonDecoder) decoder).getMaxInMemorySize())
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+
+  @RestController
+  static class EchoController {
+
+    @PostMapping("/echo")
+    public Mono<String> echo(@RequestBody String body) {
+      return Mono.just(body);
+    }
+  }
+
+}
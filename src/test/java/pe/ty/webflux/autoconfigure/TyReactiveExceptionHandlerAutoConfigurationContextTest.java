@@ -0,0 +1,65 @@
+package pe.ty.webflux.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import pe.ty.webflux.error.ErrorHandlingMetrics;
+import pe.ty.webflux.error.TyReactiveExceptionHandler;
+import pe.ty.webflux.error.metrics.MicrometerErrorHandlingMetrics;
+
+class TyReactiveExceptionHandlerAutoConfigurationContextTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class,
+              TyReactiveExceptionHandlerAutoConfiguration.class));
+
+  @Test
+  void whenReactiveWebApplication_thenConfigureHandler() {
+    contextRunner.run(context -> Assertions.assertThat(context)
+        .hasSingleBean(TyReactiveExceptionHandler.class)
+        .hasSingleBean(ErrorHandlingMetrics.class));
+  }
+
+  @Test
+  void whenNotReactiveWebApplication_thenBackOff() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+            TyReactiveExceptionHandlerAutoConfiguration.class))
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean(TyReactiveExceptionHandler.class));
+  }
+
+  @Test
+  void whenMeterRegistryPresent_thenUseMicrometerMetrics() {
+    contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .run(context -> Assertions.assertThat(context.getBean(ErrorHandlingMetrics.class))
+            .isInstanceOf(MicrometerErrorHandlingMetrics.class));
+  }
+
+  @Test
+  void whenNoMeterRegistry_thenMetricsAreDisabled() {
+    contextRunner.run(context -> Assertions
+        .assertThat(context.getBean(ErrorHandlingMetrics.class))
+        .isSameAs(ErrorHandlingMetrics.NONE));
+  }
+
+  @Test
+  void whenMetricsDisabled_thenIgnoreMeterRegistry() {
+    contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withPropertyValues("ty.webflux.error.metrics.enabled=false")
+        .run(context -> Assertions
+            .assertThat(context.getBean(ErrorHandlingMetrics.class))
+            .isSameAs(ErrorHandlingMetrics.NONE));
+  }
+
+}
@@ -9,6 +9,10 @@ import org.mockito.Captor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -16,18 +20,26 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 import pe.ty.core.exception.CoreException;
 import pe.ty.core.exception.CoreExceptionStatus;
 import pe.ty.test.webflux.autoconfigure.WebFluxConfigurationTest;
+import pe.ty.webflux.error.handler.CoreHandler;
+import pe.ty.webflux.error.handler.SyncCoreHandler;
 import pe.ty.webflux.rest.RestTest;
 
 @Slf4j
 @WebFluxConfigurationTest
 @ExtendWith(SpringExtension.class)
+@Import(TyReactiveExceptionHandlerAutoConfigurationTest.CustomHandlerConfiguration.class)
 @WebFluxTest(controllers = RestTest.class, properties = {
     "application.error.bad-request.code=ER0001",
     "application.error.not-authorized.code=ER0002",
     "application.error.forbidden.code=ER0003",
+    "application.error.forbidden.message=Access denied",
+    "application.error.forbidden.messages.es=Acceso denegado",
     "application.error.not-found.code=ER0004",
     "application.error.conflict.code=ER0005",
     "application.error.precondition-failed.code=ER0006",
@@ -136,6 +148,56 @@ class TyReactiveExceptionHandlerAutoConfigurationTest {
         .jsonPath("$.errorType").exists();
   }
 
+  @Test
+  void whenServerWebInputExceptionSubclass_thenReturnBadRequest() {
+    RestTest.errorResponse = new ServerWebInputException("Invalid input") {
+    };
+    this.webClient.get().uri(URI_HELLO_TEST)
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.code").isEqualTo("ER0001")
+        .jsonPath("$.message").isEqualTo("Invalid input");
+  }
+
+  @Test
+  void whenResponseStatusExceptionSubclass_thenKeepItsStatus() {
+    RestTest.errorResponse = new UnsupportedMediaTypeStatusException("Unsupported media type");
+    this.webClient.get().uri(URI_HELLO_TEST)
+        .exchange()
+        .expectStatus().isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+        .expectBody()
+        .jsonPath("$.code").isEqualTo("ER9999")
+        .jsonPath("$.message").exists();
+  }
+
+  @Test
+  void whenCustomHandlerRegistered_thenUseCustomMapping() {
+    RestTest.errorResponse = new IllegalArgumentException("Duplicated resource");
+    this.webClient.get().uri(URI_HELLO_TEST)
+        .exchange()
+        .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+        .expectBody()
+        .jsonPath("$.code").isEqualTo("ER0005")
+        .jsonPath("$.message").isEqualTo("Duplicated resource");
+  }
+
+  @Test
+  void whenAcceptLanguageConfigured_thenReturnLocalizedMessage() {
+    RestTest.errorResponse = CoreException.builder().status(CoreExceptionStatus.FORBIDDEN).build();
+    this.webClient.get().uri(URI_HELLO_TEST)
+        .header(HttpHeaders.ACCEPT_LANGUAGE, "es-PE")
+        .exchange()
+        .expectStatus().isForbidden()
+        .expectBody()
+        .jsonPath("$.code").isEqualTo("ER0003")
+        .jsonPath("$.message").isEqualTo("Acceso denegado");
+    this.webClient.get().uri(URI_HELLO_TEST)
+        .exchange()
+        .expectStatus().isForbidden()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Access denied");
+  }
 
   private void validateCoreExceptionTest(HttpStatus status) {
     this.webClient.get().uri(URI_HELLO_TEST)
@@ -155,4 +217,26 @@ class TyReactiveExceptionHandlerAutoConfigurationTest {
     Mockito.verifyNoMoreInteractions(this.exchangeFunction);
   }
 
-}
\ No newline at end of file
+  @TestConfiguration
+  static class CustomHandlerConfiguration {
+
+    @Bean
+    public CoreHandler<IllegalArgumentException> illegalArgumentExceptionHandler() {
+      return new IllegalArgumentExceptionHandler();
+    }
+  }
+
+  static class IllegalArgumentExceptionHandler implements
+      SyncCoreHandler<IllegalArgumentException> {
+
+    @Override
+    public CoreException resolve(ServerWebExchange exchange, IllegalArgumentException throwable) {
+      return CoreException.builder()
+          .status(CoreExceptionStatus.CONFLICT)
+          .message(throwable.getMessage())
+          .resolved(true)
+          .build();
+    }
+  }
+
+}
@@ -0,0 +1,47 @@
+package pe.ty.webflux.autoconfigure;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import pe.ty.webflux.server.TyNettyServerCustomizer;
+import reactor.netty.resources.LoopResources;
+
+class TyServerAutoConfigurationTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(TyServerAutoConfiguration.class));
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void whenReactiveWebApplication_thenCustomizeNetty() {
+    contextRunner.run(context -> {
+      Assertions.assertThat(context).doesNotHaveBean(LoopResources.class);
+      NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+      context.getBean("tyNettyServerCustomizer", WebServerFactoryCustomizer.class)
+          .customize(factory);
+      Assertions.assertThat(factory.getServerCustomizers())
+          .hasOnlyElementsOfType(TyNettyServerCustomizer.class)
+          .hasSize(1);
+    });
+  }
+
+  @Test
+  void whenEventLoopThreadsConfigured_thenCreateLoopResources() {
+    contextRunner.withPropertyValues("ty.webflux.server.event-loop-threads=2")
+        .run(context -> Assertions.assertThat(context).hasSingleBean(LoopResources.class));
+  }
+
+  @Test
+  void whenNotReactiveWebApplication_thenBackOff() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TyServerAutoConfiguration.class))
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean("tyNettyServerCustomizer"));
+  }
+
+}
@@ -0,0 +1,51 @@
+package pe.ty.webflux.autoconfigure;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import pe.ty.webflux.timeout.RequestTimeoutWebFilter;
+
+class TyTimeoutAutoConfigurationTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(TyTimeoutAutoConfiguration.class));
+
+  @Test
+  void whenNotEnabled_thenBackOff() {
+    contextRunner.run(context -> Assertions.assertThat(context)
+        .doesNotHaveBean(RequestTimeoutWebFilter.class));
+  }
+
+  @Test
+  void whenEnabled_thenConfigureFilter() {
+    contextRunner.withPropertyValues("ty.webflux.timeout.enabled=true",
+        "ty.webflux.timeout.default-timeout=2s",
+        "ty.webflux.timeout.routes[0].path-pattern=/reports/**",
+        "ty.webflux.timeout.routes[0].timeout=30s")
+        .run(context -> Assertions.assertThat(context)
+            .hasSingleBean(RequestTimeoutWebFilter.class));
+  }
+
+  @Test
+  void whenRouteWithoutPathPattern_thenFailToStart() {
+    contextRunner.withPropertyValues("ty.webflux.timeout.enabled=true",
+        "ty.webflux.timeout.routes[0].timeout=30s")
+        .run(context -> Assertions.assertThat(context)
+            .getFailure()
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasStackTraceContaining("ty.webflux.timeout.routes[0].path-pattern must be set"));
+  }
+
+  @Test
+  void whenNotReactiveWebApplication_thenBackOff() {
+    new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TyTimeoutAutoConfiguration.class))
+        .withPropertyValues("ty.webflux.timeout.enabled=true")
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean(RequestTimeoutWebFilter.class));
+  }
+
+}
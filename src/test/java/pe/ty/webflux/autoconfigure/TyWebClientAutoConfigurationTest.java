@@ -0,0 +1,72 @@
+package pe.ty.webflux.autoconfigure;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.ClientHttpConnectorAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import pe.ty.core.exception.CoreException;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+class TyWebClientAutoConfigurationTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+          CodecsAutoConfiguration.class, ClientHttpConnectorAutoConfiguration.class,
+          WebClientAutoConfiguration.class, TyWebClientAutoConfiguration.class));
+
+  @Test
+  void whenEnabled_thenConfigureSharedPool() {
+    contextRunner.run(context -> {
+      Assertions.assertThat(context).hasSingleBean(ConnectionProvider.class);
+      Assertions.assertThat(context.getBean(ClientHttpConnector.class))
+          .isInstanceOf(ReactorClientHttpConnector.class);
+    });
+  }
+
+  @Test
+  void whenErrorMappingNotConfigured_thenKeepErrorResponses() {
+    contextRunner.run(context -> StepVerifier.create(serviceUnavailableClient(context
+        .getBean(WebClient.Builder.class)).get().uri("http://orders.local/orders")
+        .exchange()
+        .map(ClientResponse::rawStatusCode))
+        .expectNext(503)
+        .verifyComplete());
+  }
+
+  @Test
+  void whenErrorMappingEnabled_thenMapErrorResponses() {
+    contextRunner.withPropertyValues("ty.webflux.client.error-mapping.enabled=true")
+        .run(context -> StepVerifier.create(serviceUnavailableClient(context
+            .getBean(WebClient.Builder.class)).get().uri("http://orders.local/orders")
+            .exchange())
+            .expectError(CoreException.class)
+            .verify());
+  }
+
+  @Test
+  void whenDisabled_thenBackOff() {
+    contextRunner.withPropertyValues("ty.webflux.client.enabled=false")
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean("tyWebClientCustomizer")
+            .doesNotHaveBean(ConnectionProvider.class));
+  }
+
+  private static WebClient serviceUnavailableClient(WebClient.Builder builder) {
+    return builder
+        .exchangeFunction(request -> Mono.just(
+            ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()))
+        .build();
+  }
+
+}
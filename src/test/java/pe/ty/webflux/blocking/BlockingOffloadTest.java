@@ -0,0 +1,103 @@
+package pe.ty.webflux.blocking;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class BlockingOffloadTest {
+
+  private final RecordingMetrics metrics = new RecordingMetrics();
+  private final BlockingOffload offload = new BlockingOffload(
+      Schedulers.newBoundedElastic(2, 10, "test-blocking"), metrics);
+
+  @AfterEach
+  void cleanUp() {
+    offload.dispose();
+  }
+
+  @Test
+  void whenCallableOffloaded_thenRunOnSchedulerAndRecord() throws InterruptedException {
+    StepVerifier.create(offload.fromCallable(() -> Thread.currentThread().getName()))
+        .assertNext(name -> Assertions.assertTrue(name.startsWith("test-blocking")))
+        .verifyComplete();
+    Assertions.assertFalse(metrics.nextFailed());
+  }
+
+  @Test
+  void whenCallableFails_thenRecordFailure() throws InterruptedException {
+    StepVerifier.create(offload.fromCallable(() -> {
+      throw new IllegalStateException();
+    }))
+        .expectError(IllegalStateException.class)
+        .verify();
+    Assertions.assertTrue(metrics.nextFailed());
+  }
+
+  @Test
+  void whenHandlerOffloaded_thenRunOnSchedulerAndRecord() throws InterruptedException {
+    StepVerifier.create(offload.offload(request -> ServerResponse.ok()
+        .header("thread", Thread.currentThread().getName())
+        .build())
+        .handle(request()))
+        .assertNext(response -> Assertions.assertTrue(response.headers()
+            .getFirst("thread").startsWith("test-blocking")))
+        .verifyComplete();
+    Assertions.assertFalse(metrics.nextFailed());
+  }
+
+  @Test
+  void whenFilteredHandlerThrows_thenRecordFailure() throws InterruptedException {
+    StepVerifier.create(offload.filter().filter(request(), request -> {
+      throw new IllegalStateException();
+    }))
+        .expectError(IllegalStateException.class)
+        .verify();
+    Assertions.assertTrue(metrics.nextFailed());
+  }
+
+  @Test
+  void whenFilteredHandlerSucceeds_thenRecord() throws InterruptedException {
+    StepVerifier.create(offload.filter().filter(request(),
+        request -> ServerResponse.status(HttpStatus.ACCEPTED).build()))
+        .assertNext(response -> Assertions.assertEquals(HttpStatus.ACCEPTED,
+            response.statusCode()))
+        .verifyComplete();
+    Assertions.assertFalse(metrics.nextFailed());
+  }
+
+  private static ServerRequest request() {
+    return ServerRequest.create(MockServerWebExchange.from(MockServerHttpRequest.get("/")),
+        HandlerStrategies.withDefaults().messageReaders());
+  }
+
+  private static class RecordingMetrics implements BlockingMetrics {
+
+    private final BlockingQueue<Boolean> tasks = new LinkedBlockingQueue<>();
+
+    private boolean nextFailed() throws InterruptedException {
+      Boolean failed = tasks.poll(5, TimeUnit.SECONDS);
+      Assertions.assertNotNull(failed, "No task recorded");
+      return failed;
+    }
+
+    @Override
+    public void recordTask(long waitNanos, long runNanos, boolean failed) {
+      Assertions.assertTrue(waitNanos >= 0);
+      Assertions.assertTrue(runNanos >= 0);
+      tasks.add(failed);
+    }
+  }
+
+}
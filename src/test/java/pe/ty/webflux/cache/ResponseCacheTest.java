@@ -0,0 +1,61 @@
+package pe.ty.webflux.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import pe.ty.webflux.cache.ResponseCache.CachedResponse;
+import pe.ty.webflux.cache.ResponseCache.ResponseKey;
+
+class ResponseCacheTest {
+
+  @Test
+  void whenFull_thenEvictOldestEntry() {
+    ResponseCache cache = new ResponseCache(2, Duration.ofMinutes(1));
+    cache.put(key("/1"), response());
+    cache.put(key("/2"), response());
+    cache.get(key("/1"));
+    cache.put(key("/3"), response());
+
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertNull(cache.get(key("/1")));
+    Assertions.assertNotNull(cache.get(key("/2")));
+    Assertions.assertNotNull(cache.get(key("/3")));
+  }
+
+  @Test
+  void whenReplaced_thenEvictInNewInsertionOrder() {
+    ResponseCache cache = new ResponseCache(2, Duration.ofMinutes(1));
+    cache.put(key("/1"), response());
+    cache.put(key("/2"), response());
+    cache.put(key("/1"), response());
+    cache.put(key("/3"), response());
+
+    Assertions.assertNull(cache.get(key("/2")));
+    Assertions.assertNotNull(cache.get(key("/1")));
+    Assertions.assertNotNull(cache.get(key("/3")));
+  }
+
+  @Test
+  void whenExpired_thenIgnoreAndPurge() throws InterruptedException {
+    ResponseCache cache = new ResponseCache(10, Duration.ofMillis(20));
+    cache.put(key("/1"), response());
+    Thread.sleep(50);
+    Assertions.assertNull(cache.get(key("/1")));
+
+    cache.put(key("/2"), response());
+    Thread.sleep(50);
+    cache.put(key("/3"), response());
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  private static ResponseKey key(String path) {
+    return ResponseKey.of("GET", path, null, Collections.emptyList());
+  }
+
+  private static CachedResponse response() {
+    return new CachedResponse(new HttpHeaders(), new byte[0], "\"etag\"");
+  }
+
+}
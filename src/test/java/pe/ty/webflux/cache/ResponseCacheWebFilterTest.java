@@ -0,0 +1,191 @@
+package pe.ty.webflux.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pe.ty.webflux.autoconfigure.TyCacheAutoConfiguration;
+import pe.ty.webflux.autoconfigure.TyJacksonAutoConfiguration;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheWebFilterTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class, TyCacheAutoConfiguration.class))
+          .withPropertyValues("ty.webflux.cache.enabled=true",
+              "ty.webflux.cache.path-patterns=/cached/**")
+          .withUserConfiguration(CountingController.class);
+
+  @Test
+  void whenRepeated_thenServeFromCacheWithEtag() {
+    contextRunner.run(context -> {
+      WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+      String etag = client.get().uri("/cached/value")
+          .exchange()
+          .expectStatus().isOk()
+          .expectHeader().exists(HttpHeaders.ETAG)
+          .expectBody(String.class).isEqualTo("1")
+          .returnResult().getResponseHeaders().getETag();
+
+      client.get().uri("/cached/value")
+          .exchange()
+          .expectStatus().isOk()
+          .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+          .expectBody(String.class).isEqualTo("1");
+      client.get().uri("/cached/value")
+          .header(HttpHeaders.IF_NONE_MATCH, etag)
+          .exchange()
+          .expectStatus().isNotModified();
+    });
+  }
+
+  @Test
+  void whenCached_thenVaryOnKeyHeaders() {
+    contextRunner.run(context -> {
+      WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+      for (int i = 0; i < 2; i++) {
+        client.get().uri("/cached/value")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.VARY, "Accept, Accept-Language")
+            .expectBody(String.class).isEqualTo("1");
+      }
+    });
+  }
+
+  @Test
+  void whenFreshResponseMatchesIfNoneMatch_thenNotModified() {
+    contextRunner.run(context -> {
+      WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+      String etag = "\"" + DigestUtils.md5DigestAsHex("1".getBytes(StandardCharsets.UTF_8))
+          + "\"";
+
+      client.get().uri("/cached/value")
+          .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"", etag)
+          .exchange()
+          .expectStatus().isNotModified()
+          .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+          .expectHeader().exists(HttpHeaders.VARY);
+      client.get().uri("/cached/value")
+          .exchange()
+          .expectBody(String.class).isEqualTo("1");
+    });
+  }
+
+  @Test
+  void whenRequestHasCredentials_thenBypassCache() {
+    contextRunner.run(context -> {
+      WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+      client.get().uri("/cached/value")
+          .exchange()
+          .expectBody(String.class).isEqualTo("1");
+      client.get().uri("/cached/value")
+          .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+          .exchange()
+          .expectBody(String.class).isEqualTo("2");
+      client.get().uri("/cached/value")
+          .cookie("SESSION", "abc")
+          .exchange()
+          .expectBody(String.class).isEqualTo("3");
+    });
+  }
+
+  @Test
+  void whenEventStream_thenNeverCache() {
+    contextRunner.run(context -> {
+      WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+      for (int i = 1; i <= 2; i++) {
+        client.get().uri("/cached/events")
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().doesNotExist(HttpHeaders.ETAG)
+            .expectBody(String.class).isEqualTo("data:" + i + "\n\n");
+      }
+    });
+  }
+
+  @Test
+  void whenStreamedWithoutContentLength_thenNeverCache() {
+    contextRunner.run(context -> {
+      WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+      for (int i = 1; i <= 2; i++) {
+        client.get().uri("/cached/list")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().doesNotExist(HttpHeaders.ETAG)
+            .expectBody(String.class).isEqualTo("[" + i + "," + i + "]");
+      }
+    });
+  }
+
+  @Test
+  void whenResponseSetsCookie_thenNeverCache() {
+    contextRunner.run(context -> {
+      WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+      client.get().uri("/cached/cookie").exchange().expectBody(String.class).isEqualTo("1");
+      client.get().uri("/cached/cookie").exchange().expectBody(String.class).isEqualTo("2");
+    });
+  }
+
+  @Test
+  void whenPathNotConfigured_thenBypassCache() {
+    contextRunner.run(context -> {
+      WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+      client.get().uri("/other").exchange().expectBody(String.class).isEqualTo("1");
+      client.get().uri("/other").exchange().expectBody(String.class).isEqualTo("2");
+    });
+  }
+
+  @RestController
+  static class CountingController {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @GetMapping("/cached/value")
+    public Mono<String> value() {
+      return Mono.fromSupplier(() -> String.valueOf(counter.incrementAndGet()));
+    }
+
+    @GetMapping(path = "/cached/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<Integer> events() {
+      return Mono.fromSupplier(counter::incrementAndGet).flux();
+    }
+
+    @GetMapping("/cached/list")
+    public Flux<Integer> list() {
+      return Mono.fromSupplier(counter::incrementAndGet)
+          .flatMapMany(value -> Flux.just(value, value).delayElements(Duration.ofMillis(1)));
+    }
+
+    @GetMapping("/cached/cookie")
+    public Mono<String> cookie(ServerHttpResponse response) {
+      response.addCookie(ResponseCookie.from("SESSION", "abc").build());
+      return value();
+    }
+
+    @GetMapping("/other")
+    public Mono<String> other() {
+      return value();
+    }
+  }
+
+}
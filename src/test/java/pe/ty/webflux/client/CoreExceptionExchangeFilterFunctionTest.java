@@ -0,0 +1,142 @@
+package pe.ty.webflux.client;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.autoconfigure.TyJacksonAutoConfiguration;
+import pe.ty.webflux.autoconfigure.TyReactiveExceptionHandlerAutoConfiguration;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CoreExceptionExchangeFilterFunctionTest {
+
+  private final static ClientRequest REQUEST = ClientRequest
+      .create(HttpMethod.GET, URI.create("http://orders.local:8080/orders/42?token=secret"))
+      .build();
+
+  private final CoreExceptionExchangeFilterFunction filter =
+      new CoreExceptionExchangeFilterFunction(Duration.ofMillis(50), true);
+
+  @Test
+  void whenErrorResponse_thenMapWithoutLeakingDetails() {
+    ClientResponse response = ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .body("{\"code\":\"ER0001\",\"message\":\"db password expired\",\"component\":\"orders\"}")
+        .build();
+    StepVerifier.create(filter.filter(REQUEST, request -> Mono.just(response)))
+        .expectErrorSatisfies(ex -> {
+          CoreException coreException = (CoreException) ex;
+          Assertions.assertThat(coreException.getStatus())
+              .isEqualTo(CoreExceptionStatus.EXTERNAL_ERROR);
+          Assertions.assertThat(coreException.getMessage())
+              .isEqualTo("Downstream HTTP GET orders.local responded 503");
+          Assertions.assertThat(coreException.getComponent()).isNull();
+          Assertions.assertThat(coreException.getCause().getMessage())
+              .contains("/orders/42?token=secret", "ER0001", "db password expired", "(orders)");
+        })
+        .verify();
+  }
+
+  @Test
+  void whenErrorResponseRendered_thenUseOwnComponent() {
+    new ReactiveWebApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+            CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+            TyJacksonAutoConfiguration.class,
+            TyReactiveExceptionHandlerAutoConfiguration.class))
+        .withPropertyValues("spring.application.name=gateway")
+        .withUserConfiguration(OrdersController.class)
+        .run(context -> {
+          byte[] body = WebTestClient.bindToApplicationContext(context).build()
+              .get().uri("/orders")
+              .exchange()
+              .expectStatus().isEqualTo(HttpStatus.BAD_GATEWAY)
+              .expectBody()
+              .jsonPath("$.component").isEqualTo("gateway")
+              .returnResult().getResponseBody();
+          Assertions.assertThat(new String(body, StandardCharsets.UTF_8))
+              .doesNotContain("orders-internal");
+        });
+  }
+
+  @Test
+  void whenConnectionFails_thenMapWithoutLeakingDetails() {
+    StepVerifier.create(filter.filter(REQUEST,
+        request -> Mono.error(new ConnectException("Connection refused: orders.local/10.0.0.1"))))
+        .expectErrorSatisfies(ex -> {
+          Assertions.assertThat(ex.getMessage())
+              .isEqualTo("Downstream HTTP GET orders.local failed");
+          Assertions.assertThat(ex.getCause()).isInstanceOf(ConnectException.class);
+        })
+        .verify();
+  }
+
+  @Test
+  void whenNoResponseInTime_thenMapToTimeout() {
+    StepVerifier.create(filter.filter(REQUEST, request -> Mono.never()))
+        .expectErrorSatisfies(ex -> {
+          Assertions.assertThat(((CoreException) ex).getStatus())
+              .isEqualTo(CoreExceptionStatus.TIMEOUT);
+          Assertions.assertThat(ex.getMessage())
+              .isEqualTo("Downstream HTTP GET orders.local timed out");
+        })
+        .verify();
+  }
+
+  @Test
+  void whenSuccessfulResponse_thenPassThrough() {
+    ClientResponse response = ClientResponse.create(HttpStatus.OK).build();
+    StepVerifier.create(filter.filter(REQUEST, request -> Mono.just(response)))
+        .expectNext(response)
+        .verifyComplete();
+  }
+
+  @Test
+  void whenErrorMappingDisabled_thenOnlyBoundTheWait() {
+    CoreExceptionExchangeFilterFunction timeoutOnly =
+        new CoreExceptionExchangeFilterFunction(Duration.ofMillis(50), false);
+    ClientResponse response = ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build();
+    StepVerifier.create(timeoutOnly.filter(REQUEST, request -> Mono.just(response)))
+        .expectNext(response)
+        .verifyComplete();
+  }
+
+  @RestController
+  static class OrdersController {
+
+    private final WebClient webClient = WebClient.builder()
+        .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body("{\"code\":\"ER0008\",\"component\":\"orders-internal\"}")
+            .build()))
+        .filter(new CoreExceptionExchangeFilterFunction(Duration.ofSeconds(1), true))
+        .build();
+
+    @GetMapping("/orders")
+    public Mono<String> orders() {
+      return webClient.get().uri("http://orders.local/orders").retrieve()
+          .bodyToMono(String.class);
+    }
+  }
+
+}
@@ -0,0 +1,55 @@
+package pe.ty.webflux.correlation;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class RequestIdWebFilterTest {
+
+  private final static String HEADER_NAME = "X-Request-Id";
+
+  private final RequestIdWebFilter filter = new RequestIdWebFilter(HEADER_NAME);
+
+  @Test
+  void whenHeaderPresent_thenPropagateIt() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+        .get("/").header(HEADER_NAME, "abc-123"));
+    AtomicReference<String> contextRequestId = new AtomicReference<>();
+    filter.filter(exchange, chained -> RequestIdWebFilter.currentRequestId()
+        .doOnNext(contextRequestId::set)
+        .then())
+        .block();
+
+    Assertions.assertEquals("abc-123", RequestIdWebFilter.getRequestId(exchange));
+    Assertions.assertEquals("abc-123", exchange.getResponse().getHeaders().getFirst(HEADER_NAME));
+    Assertions.assertEquals("abc-123", contextRequestId.get());
+  }
+
+  @Test
+  void whenHeaderMissing_thenCreateRequestId() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+    filter.filter(exchange, chained -> Mono.empty()).block();
+
+    String requestId = RequestIdWebFilter.getRequestId(exchange);
+    Assertions.assertEquals(36, requestId.length());
+    Assertions.assertEquals(requestId, exchange.getResponse().getHeaders().getFirst(HEADER_NAME));
+  }
+
+  @Test
+  void whenHeaderInvalid_thenReplaceIt() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+        .get("/").header(HEADER_NAME, "bad\nid"));
+    filter.filter(exchange, chained -> Mono.empty()).block();
+
+    Assertions.assertNotEquals("bad\nid", RequestIdWebFilter.getRequestId(exchange));
+  }
+
+  @Test
+  void whenOutsideFilter_thenNoRequestId() {
+    Assertions.assertNull(RequestIdWebFilter.currentRequestId().block());
+  }
+
+}
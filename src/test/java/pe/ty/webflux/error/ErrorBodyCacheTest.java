@@ -0,0 +1,60 @@
+package pe.ty.webflux.error;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.error.ErrorBodyCache.ErrorBodyKey;
+
+class ErrorBodyCacheTest {
+
+  private final static byte[] BODY = {1};
+
+  @Test
+  void whenOnlyRawHttpStatusCodeDiffers_thenKeysDoNotCollide() {
+    CoreException byStatus = CoreException.builder()
+        .status(CoreExceptionStatus.NOT_FOUND)
+        .code("ER0004")
+        .message("Not found")
+        .build();
+    CoreException byHttpCode = byStatus.toBuilder().httpStatusCode(404).build();
+    ErrorBodyKey statusKey = ErrorBodyKey.of(byStatus, 404, 0);
+    ErrorBodyKey httpCodeKey = ErrorBodyKey.of(byHttpCode, 404, 0);
+
+    Assertions.assertNotEquals(statusKey, httpCodeKey);
+
+    ErrorBodyCache cache = new ErrorBodyCache(16, Duration.ofMinutes(1));
+    cache.put(statusKey, BODY);
+    Assertions.assertNull(cache.get(httpCodeKey));
+    Assertions.assertSame(BODY, cache.get(ErrorBodyKey.of(byStatus, 404, 0)));
+  }
+
+  @Test
+  void whenMediaTypeDiffers_thenKeysDoNotCollide() {
+    CoreException exception = CoreException.builder()
+        .status(CoreExceptionStatus.CONFLICT)
+        .build();
+    Assertions.assertNotEquals(ErrorBodyKey.of(exception, 409, 0),
+        ErrorBodyKey.of(exception, 409, 1));
+  }
+
+  @Test
+  void whenFull_thenSizeStaysBounded() {
+    ErrorBodyCache cache = new ErrorBodyCache(2, Duration.ZERO);
+    for (int i = 0; i < 10; i++) {
+      cache.put(ErrorBodyKey.of(CoreException.builder().code("ER" + i).build(), 500, 0), BODY);
+    }
+    Assertions.assertEquals(2, cache.size());
+  }
+
+  @Test
+  void whenDisabled_thenNothingIsCached() {
+    ErrorBodyCache cache = new ErrorBodyCache(0, Duration.ofMinutes(1));
+    ErrorBodyKey key = ErrorBodyKey.of(CoreException.builder().build(), 500, 0);
+    cache.put(key, BODY);
+    Assertions.assertFalse(cache.isEnabled());
+    Assertions.assertNull(cache.get(key));
+  }
+
+}
@@ -0,0 +1,72 @@
+package pe.ty.webflux.error;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.mock.env.MockEnvironment;
+import pe.ty.core.exception.CoreExceptionStatus;
+
+class ErrorPropertiesResolverTest {
+
+  @Test
+  void whenPropertiesConfigured_thenResolveEveryStatus() {
+    MockEnvironment environment = new MockEnvironment()
+        .withProperty("application.error.not-found.code", "ER0004")
+        .withProperty("application.error.not-found.message", "Not found")
+        .withProperty("application.error.unexpected.code", "ER9999");
+    ErrorPropertiesResolver resolver = new ErrorPropertiesResolver(environment, () -> null);
+
+    Assertions.assertEquals("ER0004", resolver.getCode(CoreExceptionStatus.NOT_FOUND));
+    Assertions.assertEquals("Not found", resolver.getMessage(CoreExceptionStatus.NOT_FOUND));
+    Assertions.assertEquals("ER9999", resolver.getCode(CoreExceptionStatus.UNEXPECTED));
+    Assertions.assertNull(resolver.getCode(CoreExceptionStatus.CONFLICT));
+    Assertions.assertNull(resolver.getMessage(CoreExceptionStatus.UNEXPECTED));
+  }
+
+  @Test
+  void whenNoApplicationName_thenFallBackToBuildPropertiesAndDefault() {
+    Properties build = new Properties();
+    build.setProperty("name", "build-component");
+    Assertions.assertEquals("app-component", new ErrorPropertiesResolver(
+        new MockEnvironment().withProperty("spring.application.name", "app-component"),
+        () -> new BuildProperties(build)).getComponentName());
+    Assertions.assertEquals("build-component", new ErrorPropertiesResolver(
+        new MockEnvironment(), () -> new BuildProperties(build)).getComponentName());
+    Assertions.assertEquals("default-component",
+        new ErrorPropertiesResolver(new MockEnvironment(), () -> null).getComponentName());
+  }
+
+  @Test
+  void whenPropertiesChange_thenKeepSnapshotUntilRefresh() {
+    MockEnvironment environment = new MockEnvironment()
+        .withProperty("application.error.conflict.code", "ER0005");
+    AtomicInteger refreshed = new AtomicInteger();
+    ErrorPropertiesResolver resolver = new ErrorPropertiesResolver(environment, () -> null);
+    resolver.addRefreshListener(refreshed::incrementAndGet);
+
+    Assertions.assertEquals("ER0005", resolver.getCode(CoreExceptionStatus.CONFLICT));
+    environment.setProperty("application.error.conflict.code", "ER0105");
+    Assertions.assertEquals("ER0005", resolver.getCode(CoreExceptionStatus.CONFLICT));
+
+    resolver.refresh();
+    Assertions.assertEquals("ER0105", resolver.getCode(CoreExceptionStatus.CONFLICT));
+    Assertions.assertEquals(1, refreshed.get());
+  }
+
+  @Test
+  void whenCreated_thenLoadOnFirstUse() {
+    MockEnvironment environment = new MockEnvironment();
+    AtomicInteger buildPropertiesLookups = new AtomicInteger();
+    ErrorPropertiesResolver resolver = new ErrorPropertiesResolver(environment, () -> {
+      buildPropertiesLookups.incrementAndGet();
+      return null;
+    });
+    environment.setProperty("application.error.conflict.code", "ER0005");
+
+    Assertions.assertEquals(0, buildPropertiesLookups.get());
+    Assertions.assertEquals("ER0005", resolver.getCode(CoreExceptionStatus.CONFLICT));
+  }
+
+}
@@ -0,0 +1,126 @@
+package pe.ty.webflux.error;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.jayway.jsonpath.JsonPath;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import reactor.core.publisher.Flux;
+
+class ErrorResponseWriterTest {
+
+  private final static MediaType APPLICATION_SMILE =
+      MediaType.valueOf("application/x-jackson-smile");
+
+  private ObjectMapper jsonMapper;
+  private ObjectMapper smileMapper;
+  private ErrorBodyCache bodyCache;
+  private ErrorResponseWriter writer;
+
+  @BeforeEach
+  void init() {
+    jsonMapper = new ObjectMapper().setSerializationInclusion(Include.NON_NULL);
+    smileMapper = new ObjectMapper(new SmileFactory()).setSerializationInclusion(Include.NON_NULL);
+    Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+    mappers.put(MediaType.APPLICATION_JSON, jsonMapper);
+    mappers.put(APPLICATION_SMILE, smileMapper);
+    bodyCache = new ErrorBodyCache(16, Duration.ofMinutes(1));
+    writer = new ErrorResponseWriter(mappers, bodyCache, ErrorHandlingMetrics.NONE);
+  }
+
+  @Test
+  void whenWritten_thenSetStatusHeadersAndJsonBody() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+    CoreException exception = CoreException.builder()
+        .status(CoreExceptionStatus.CONFLICT)
+        .code("ER0005")
+        .message("Conflict")
+        .headers(Collections.singletonMap("x-reason", "duplicated"))
+        .build();
+
+    writer.write(exchange, exception, false).block();
+
+    MockServerHttpResponse response = exchange.getResponse();
+    String body = response.getBodyAsString().block();
+    Assertions.assertEquals(409, response.getStatusCode().value());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    Assertions.assertEquals("duplicated", response.getHeaders().getFirst("x-reason"));
+    Assertions.assertEquals(body.length(), response.getHeaders().getContentLength());
+    Assertions.assertEquals("ER0005", JsonPath.read(body, "$.code"));
+    Assertions.assertEquals(0, bodyCache.size());
+  }
+
+  @Test
+  void whenHttpStatusCodeSet_thenOverrideStatus() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+    writer.write(exchange, CoreException.builder()
+        .status(CoreExceptionStatus.UNEXPECTED)
+        .httpStatusCode(405)
+        .build(), false).block();
+    Assertions.assertEquals(405, exchange.getResponse().getStatusCode().value());
+  }
+
+  @Test
+  void whenAcceptSmile_thenWriteSmileBody() throws Exception {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/")
+        .header(HttpHeaders.ACCEPT, APPLICATION_SMILE.toString()));
+    CoreException exception = CoreException.builder().code("ER0004").build();
+
+    writer.write(exchange, exception, false).block();
+
+    MockServerHttpResponse response = exchange.getResponse();
+    Assertions.assertEquals(APPLICATION_SMILE, response.getHeaders().getContentType());
+    byte[] body = bodyBytes(response);
+    Assertions.assertEquals("ER0004", smileMapper.readTree(body).get("code").asText());
+  }
+
+  @Test
+  void whenAcceptNotSupported_thenDefaultToJson() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/")
+        .header(HttpHeaders.ACCEPT, MediaType.TEXT_HTML_VALUE));
+    writer.write(exchange, CoreException.builder().build(), false).block();
+    Assertions.assertEquals(MediaType.APPLICATION_JSON,
+        exchange.getResponse().getHeaders().getContentType());
+  }
+
+  @Test
+  void whenStaticBody_thenEncodeOnceAndReuse() {
+    CoreException exception = CoreException.builder()
+        .status(CoreExceptionStatus.NOT_FOUND)
+        .code("ER0004")
+        .message("Not found")
+        .build();
+    for (int i = 0; i < 3; i++) {
+      MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+      writer.write(exchange, exception, true).block();
+      Assertions.assertEquals("Not found",
+          JsonPath.read(exchange.getResponse().getBodyAsString().block(), "$.message"));
+    }
+    Assertions.assertEquals(1, bodyCache.size());
+  }
+
+  private static byte[] bodyBytes(MockServerHttpResponse response) {
+    return Flux.from(response.getBody())
+        .reduce(new byte[0], (bytes, buffer) -> {
+          byte[] result = new byte[bytes.length + buffer.readableByteCount()];
+          System.arraycopy(bytes, 0, result, 0, bytes.length);
+          buffer.read(result, bytes.length, buffer.readableByteCount());
+          return result;
+        })
+        .block();
+  }
+
+}
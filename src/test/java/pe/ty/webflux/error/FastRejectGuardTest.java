@@ -0,0 +1,70 @@
+package pe.ty.webflux.error;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FastRejectGuardTest {
+
+  @Test
+  void whenUnderThreshold_thenDoNotReject() {
+    FastRejectGuard guard = new FastRejectGuard(3, Duration.ofMinutes(1));
+    Assertions.assertFalse(guard.recordAndCheck());
+    Assertions.assertFalse(guard.recordAndCheck());
+    Assertions.assertFalse(guard.recordAndCheck());
+    Assertions.assertTrue(guard.recordAndCheck());
+  }
+
+  @Test
+  void whenWindowsPass_thenLeaveRejectMode() throws InterruptedException {
+    FastRejectGuard guard = new FastRejectGuard(1, Duration.ofMillis(50));
+    guard.recordAndCheck();
+    Assertions.assertTrue(guard.recordAndCheck());
+    Thread.sleep(150);
+    Assertions.assertFalse(guard.recordAndCheck());
+  }
+
+  @Test
+  void whenDisabled_thenNeverReject() {
+    Assertions.assertFalse(FastRejectGuard.DISABLED.isEnabled());
+    for (int i = 0; i < 1000; i++) {
+      Assertions.assertFalse(FastRejectGuard.DISABLED.recordAndCheck());
+    }
+  }
+
+  @Test
+  void whenConcurrentRecords_thenCountEveryOne() throws InterruptedException {
+    int threads = 8;
+    int perThread = 1000;
+    FastRejectGuard guard = new FastRejectGuard(threads * perThread - 1, Duration.ofMinutes(1));
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger rejected = new AtomicInteger();
+    for (int t = 0; t < threads; t++) {
+      executor.execute(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int i = 0; i < perThread; i++) {
+          if (guard.recordAndCheck()) {
+            rejected.incrementAndGet();
+          }
+        }
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    Assertions.assertTrue(rejected.get() >= 1);
+    Assertions.assertTrue(guard.recordAndCheck());
+  }
+
+}
@@ -0,0 +1,153 @@
+package pe.ty.webflux.error;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.autoconfigure.TyErrorProperties;
+import pe.ty.webflux.autoconfigure.TyJacksonAutoConfiguration;
+import pe.ty.webflux.autoconfigure.TyReactiveExceptionHandlerAutoConfiguration;
+import pe.ty.webflux.error.handler.CoreHandler;
+import pe.ty.webflux.error.handler.ResponseStatusExceptionHandler;
+import pe.ty.webflux.error.metrics.MicrometerErrorHandlingMetrics;
+import reactor.core.publisher.Mono;
+
+class FastRejectTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class,
+              TyReactiveExceptionHandlerAutoConfiguration.class))
+          .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+          .withPropertyValues("application.error.not-found.code=ER0004");
+
+  @Test
+  void whenNotConfigured_thenFastRejectIsDisabled() {
+    contextRunner.run(context -> Assertions
+        .assertThat(context.getBean(TyErrorProperties.class).getFastReject().isEnabled())
+        .isFalse());
+  }
+
+  @Test
+  void whenRejected_thenRecordMetrics() {
+    contextRunner
+        .withPropertyValues("ty.webflux.error.fast-reject.enabled=true",
+            "ty.webflux.error.fast-reject.threshold=0")
+        .run(context -> {
+          WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+          for (int i = 0; i < 2; i++) {
+            client.get().uri("/missing")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.code").isEqualTo("ER0004");
+          }
+          Assertions.assertThat(context.getBean(MeterRegistry.class)
+              .get(MicrometerErrorHandlingMetrics.ERRORS_METRIC)
+              .tag("handler", ResponseStatusExceptionHandler.class.getSimpleName())
+              .tag("http.status", "404")
+              .counter().count())
+              .isEqualTo(2.0d);
+        });
+  }
+
+  @Test
+  void whenRejected_thenServeCachedBodyWithoutRequestUri() {
+    contextRunner
+        .withPropertyValues("ty.webflux.error.fast-reject.enabled=true",
+            "ty.webflux.error.fast-reject.threshold=0",
+            "application.error.descriptions.not-found.message=Nothing at {path}")
+        .run(context -> {
+          WebTestClient client = WebTestClient.bindToApplicationContext(context).build();
+          byte[] first = client.get().uri("/first?token=secret")
+              .exchange()
+              .expectStatus().isNotFound()
+              .expectBody()
+              .jsonPath("$.message").isEqualTo(TyReactiveExceptionHandler.REJECT_NOT_FOUND_MESSAGE)
+              .returnResult().getResponseBody();
+          byte[] second = client.get().uri("/second?page=2")
+              .exchange()
+              .expectStatus().isNotFound()
+              .expectBody().returnResult().getResponseBody();
+
+          String body = new String(first, StandardCharsets.UTF_8);
+          Assertions.assertThat(body).doesNotContain("/first").doesNotContain("token")
+              .doesNotContain("secret");
+          Assertions.assertThat(second).isEqualTo(first);
+        });
+  }
+
+  @Test
+  void whenMethodRejected_thenServeFixedMessage() {
+    contextRunner
+        .withPropertyValues("ty.webflux.error.fast-reject.enabled=true",
+            "ty.webflux.error.fast-reject.threshold=0")
+        .withUserConfiguration(HelloController.class)
+        .run(context -> WebTestClient.bindToApplicationContext(context).build()
+            .post().uri("/hello?token=secret")
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED)
+            .expectBody()
+            .jsonPath("$.message")
+            .isEqualTo(TyReactiveExceptionHandler.REJECT_METHOD_NOT_ALLOWED_MESSAGE));
+  }
+
+  @Test
+  void whenCustomHandler_thenDoNotReject() {
+    contextRunner
+        .withPropertyValues("ty.webflux.error.fast-reject.enabled=true",
+            "ty.webflux.error.fast-reject.threshold=0")
+        .withUserConfiguration(CustomHandlerConfiguration.class)
+        .run(context -> WebTestClient.bindToApplicationContext(context).build()
+            .get().uri("/missing")
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.BAD_GATEWAY));
+  }
+
+  @RestController
+  static class HelloController {
+
+    @GetMapping("/hello")
+    public Mono<String> hello() {
+      return Mono.just("hello");
+    }
+  }
+
+  @Configuration
+  static class CustomHandlerConfiguration {
+
+    @Bean
+    public CoreHandler<ResponseStatusException> customResponseStatusHandler() {
+      return new CustomResponseStatusHandler();
+    }
+  }
+
+  static class CustomResponseStatusHandler implements CoreHandler<ResponseStatusException> {
+
+    @Override
+    public Mono<CoreException> handle(ServerWebExchange exchange,
+        ResponseStatusException throwable) {
+      return Mono.just(CoreException.builder()
+          .status(CoreExceptionStatus.EXTERNAL_ERROR)
+          .build());
+    }
+  }
+
+}
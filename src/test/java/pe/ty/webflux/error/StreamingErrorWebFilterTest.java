@@ -0,0 +1,147 @@
+package pe.ty.webflux.error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.autoconfigure.TyJacksonAutoConfiguration;
+import pe.ty.webflux.autoconfigure.TyReactiveExceptionHandlerAutoConfiguration;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class StreamingErrorWebFilterTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class,
+              TyReactiveExceptionHandlerAutoConfiguration.class))
+          .withPropertyValues("application.error.not-found.code=ER0004")
+          .withUserConfiguration(StreamingController.class);
+
+  @Test
+  void whenEventStreamFails_thenEndWithErrorEvent() {
+    contextRunner.run(context -> {
+      String body = WebTestClient.bindToApplicationContext(context).build()
+          .get().uri("/stream")
+          .accept(MediaType.TEXT_EVENT_STREAM)
+          .exchange()
+          .expectStatus().isOk()
+          .expectBody(String.class).returnResult().getResponseBody();
+      Assertions.assertThat(body)
+          .contains("\"first\"", "\"second\"", "event:error\ndata:{")
+          .contains("\"code\":\"ER0004\"")
+          .endsWith("\n\n");
+    });
+  }
+
+  @Test
+  void whenJsonStreamFails_thenEndWithErrorLine() {
+    contextRunner.run(context -> {
+      String body = WebTestClient.bindToApplicationContext(context).build()
+          .get().uri("/stream")
+          .accept(MediaType.APPLICATION_STREAM_JSON)
+          .exchange()
+          .expectStatus().isOk()
+          .expectBody(String.class).returnResult().getResponseBody();
+      String[] lines = body.split("\n");
+      Assertions.assertThat(lines).hasSize(3);
+      Assertions.assertThat(lines[0]).contains("first");
+      Assertions.assertThat(lines[2]).contains("\"code\":\"ER0004\"");
+    });
+  }
+
+  @Test
+  void whenInnerPublisherFails_thenEndWithErrorEventAndStop() {
+    contextRunner.run(context -> {
+      StreamingErrorWebFilter filter = context.getBean(StreamingErrorWebFilter.class);
+      MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+          .get("/stream").header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE));
+      filter.filter(exchange, chained -> {
+        ServerHttpResponse response = chained.getResponse();
+        response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+        return response.writeAndFlushWith(Flux.just(
+            Flux.just(buffer(response, "data:first\n\n")),
+            Flux.error(CoreException.builder().status(CoreExceptionStatus.NOT_FOUND).build()),
+            Flux.just(buffer(response, "data:never\n\n"))));
+      }).block();
+      Assertions.assertThat(exchange.getResponse().getBodyAsString().block())
+          .startsWith("data:first\n\nevent:error\ndata:{")
+          .contains("\"code\":\"ER0004\"")
+          .doesNotContain("never");
+    });
+  }
+
+  @Test
+  void whenStreamingDisabled_thenNoFilter() {
+    contextRunner.withPropertyValues("ty.webflux.error.streaming.enabled=false")
+        .run(context -> Assertions.assertThat(context)
+            .doesNotHaveBean(StreamingErrorWebFilter.class));
+  }
+
+  @Test
+  void whenStreamingNotAccepted_thenKeepResponse() {
+    contextRunner.run(context -> {
+      StreamingErrorWebFilter filter = context.getBean(StreamingErrorWebFilter.class);
+      Assertions.assertThat(filteredExchange(filter, MockServerWebExchange
+          .from(MockServerHttpRequest.get("/stream")))).isNotNull();
+      MockServerWebExchange json = MockServerWebExchange.from(MockServerHttpRequest
+          .get("/stream").header(HttpHeaders.ACCEPT, "application/json, */*"));
+      Assertions.assertThat(filteredExchange(filter, json).getResponse())
+          .isSameAs(json.getResponse());
+      MockServerWebExchange sse = MockServerWebExchange.from(MockServerHttpRequest
+          .get("/stream").header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE));
+      Assertions.assertThat(filteredExchange(filter, sse).getResponse())
+          .isNotSameAs(sse.getResponse());
+    });
+  }
+
+  private static DataBuffer buffer(ServerHttpResponse response, String value) {
+    return response.bufferFactory().wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static ServerWebExchange filteredExchange(StreamingErrorWebFilter filter,
+      ServerWebExchange exchange) {
+    AtomicReference<ServerWebExchange> filtered = new AtomicReference<>();
+    filter.filter(exchange, chained -> {
+      filtered.set(chained);
+      return Mono.empty();
+    }).block();
+    return filtered.get();
+  }
+
+  @RestController
+  static class StreamingController {
+
+    @GetMapping(path = "/stream", produces = {MediaType.TEXT_EVENT_STREAM_VALUE,
+        MediaType.APPLICATION_STREAM_JSON_VALUE})
+    public Flux<Map<String, String>> stream() {
+      return Flux.just(Collections.singletonMap("value", "first"),
+          Collections.singletonMap("value", "second"))
+          .concatWith(Mono.error(CoreException.builder()
+              .status(CoreExceptionStatus.NOT_FOUND)
+              .build()));
+    }
+  }
+
+}
@@ -0,0 +1,115 @@
+package pe.ty.webflux.error.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.correlation.RequestIdWebFilter;
+
+class ErrorLogPolicyTest {
+
+  private final static CoreException NOT_FOUND = CoreException.builder()
+      .status(CoreExceptionStatus.NOT_FOUND)
+      .code("ER0004")
+      .build();
+  private final static CoreException UNEXPECTED = CoreException.builder()
+      .status(CoreExceptionStatus.UNEXPECTED)
+      .code("ER9999")
+      .build();
+
+  private Logger logger;
+  private ListAppender<ILoggingEvent> appender;
+
+  @BeforeEach
+  void init() {
+    logger = (Logger) LoggerFactory.getLogger(ErrorLogPolicy.class);
+    logger.setLevel(Level.INFO);
+    appender = new ListAppender<>();
+    appender.start();
+    logger.addAppender(appender);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    logger.detachAppender(appender);
+    logger.setLevel(null);
+  }
+
+  @Test
+  void whenClientError_thenLogInfoWithoutStackTrace() {
+    ErrorLogPolicy policy = new ErrorLogPolicy(1.0d, 0.0d, 0, 500, Duration.ZERO);
+    policy.log(new IllegalArgumentException("bad"), NOT_FOUND, "request-1");
+
+    ILoggingEvent event = appender.list.get(0);
+    Assertions.assertEquals(Level.INFO, event.getLevel());
+    Assertions.assertNull(event.getThrowableProxy());
+    Assertions.assertEquals("request-1", event.getMDCPropertyMap()
+        .get(RequestIdWebFilter.MDC_KEY));
+  }
+
+  @Test
+  void whenServerError_thenLogErrorWithStackTrace() {
+    ErrorLogPolicy policy = new ErrorLogPolicy(1.0d, 0.0d, 0, 500, Duration.ZERO);
+    policy.log(new IllegalStateException("boom"), UNEXPECTED, null);
+
+    ILoggingEvent event = appender.list.get(0);
+    Assertions.assertEquals(Level.ERROR, event.getLevel());
+    Assertions.assertNotNull(event.getThrowableProxy());
+  }
+
+  @Test
+  void whenBurstExceeded_thenSuppressAndSummarize() {
+    ErrorLogPolicy policy = new ErrorLogPolicy(1.0d, 0.001d, 3, 500, Duration.ZERO);
+    for (int i = 0; i < 10; i++) {
+      policy.log(new IllegalArgumentException(), NOT_FOUND, null);
+    }
+    Assertions.assertEquals(3, appender.list.size());
+
+    policy.logSummary();
+    List<ILoggingEvent> events = appender.list;
+    ILoggingEvent summary = events.get(events.size() - 1);
+    Assertions.assertEquals(Level.WARN, summary.getLevel());
+    Assertions.assertTrue(summary.getFormattedMessage().startsWith("Suppressed 7 "));
+    Assertions.assertTrue(summary.getFormattedMessage()
+        .contains(IllegalArgumentException.class.getName() + "=7"));
+  }
+
+  @Test
+  void whenRateLimited_thenBucketsArePerExceptionClass() {
+    ErrorLogPolicy policy = new ErrorLogPolicy(1.0d, 0.001d, 1, 500, Duration.ZERO);
+    policy.log(new IllegalArgumentException(), NOT_FOUND, null);
+    policy.log(new IllegalArgumentException(), NOT_FOUND, null);
+    policy.log(new IllegalStateException(), NOT_FOUND, null);
+    Assertions.assertEquals(2, appender.list.size());
+  }
+
+  @Test
+  void whenNotSampled_thenSuppress() {
+    ErrorLogPolicy policy = new ErrorLogPolicy(0.0d, 0.0d, 0, 500, Duration.ZERO);
+    policy.log(new IllegalArgumentException(), NOT_FOUND, null);
+    Assertions.assertTrue(appender.list.isEmpty());
+  }
+
+  @Test
+  void whenSuppressed_thenReportInSummary() {
+    ErrorLogPolicy policy = new ErrorLogPolicy(1.0d, 0.0d, 0, 500, Duration.ZERO);
+    policy.suppress(new IllegalArgumentException());
+    policy.suppress(new IllegalArgumentException());
+    Assertions.assertTrue(appender.list.isEmpty());
+
+    policy.logSummary();
+    Assertions.assertEquals("Suppressed 2 exception log entries: "
+        + IllegalArgumentException.class.getName() + "=2",
+        appender.list.get(0).getFormattedMessage());
+  }
+
+}
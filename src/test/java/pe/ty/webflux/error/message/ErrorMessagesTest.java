@@ -0,0 +1,77 @@
+package pe.ty.webflux.error.message;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.autoconfigure.TyJacksonAutoConfiguration;
+import pe.ty.webflux.autoconfigure.TyReactiveExceptionHandlerAutoConfiguration;
+import reactor.core.publisher.Mono;
+
+class ErrorMessagesTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class,
+              TyReactiveExceptionHandlerAutoConfiguration.class))
+          .withUserConfiguration(ConflictController.class)
+          .withPropertyValues(
+              "application.error.codes.MyCode.message=Conflict {code} -> HTTP {status} {method}"
+                  + " {path}",
+              "application.error.codes.MyCode.messages.es=Conflicto {code}",
+              "application.error.descriptions.not-found.message=Nothing at {path}");
+
+  @Test
+  void whenCodeMessageConfigured_thenRenderArguments() {
+    contextRunner.run(context -> WebTestClient.bindToApplicationContext(context).build()
+        .get().uri("/conflict")
+        .exchange()
+        .expectStatus().isEqualTo(409)
+        .expectBody()
+        .jsonPath("$.code").isEqualTo("MyCode")
+        .jsonPath("$.message").isEqualTo("Conflict MyCode -> HTTP 409 GET /conflict"));
+  }
+
+  @Test
+  void whenLocaleHasCountry_thenFallBackToLanguage() {
+    contextRunner.run(context -> WebTestClient.bindToApplicationContext(context).build()
+        .get().uri("/conflict")
+        .header(HttpHeaders.ACCEPT_LANGUAGE, "es-PE")
+        .exchange()
+        .expectStatus().isEqualTo(409)
+        .expectBody().jsonPath("$.message").isEqualTo("Conflicto MyCode"));
+  }
+
+  @Test
+  void whenDescriptionOverridden_thenRenderRequest() {
+    contextRunner.run(context -> WebTestClient.bindToApplicationContext(context).build()
+        .get().uri("/missing?page=1")
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody().jsonPath("$.message").isEqualTo("Nothing at /missing?page=1"));
+  }
+
+  @RestController
+  static class ConflictController {
+
+    @GetMapping("/conflict")
+    public Mono<String> conflict() {
+      return Mono.error(CoreException.builder()
+          .status(CoreExceptionStatus.CONFLICT)
+          .code("MyCode")
+          .resolved(true)
+          .build());
+    }
+  }
+
+}
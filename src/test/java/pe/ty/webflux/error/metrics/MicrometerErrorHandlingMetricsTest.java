@@ -0,0 +1,71 @@
+package pe.ty.webflux.error.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.error.handler.GenericExceptionHandler;
+
+class MicrometerErrorHandlingMetricsTest {
+
+  private SimpleMeterRegistry registry;
+  private MicrometerErrorHandlingMetrics metrics;
+
+  @BeforeEach
+  void init() {
+    registry = new SimpleMeterRegistry();
+    metrics = new MicrometerErrorHandlingMetrics(registry, 1);
+  }
+
+  @Test
+  void whenHandled_thenCountAndTimeWithTags() {
+    CoreException coreException = CoreException.builder()
+        .status(CoreExceptionStatus.NOT_FOUND)
+        .build();
+    metrics.recordHandled(new IllegalStateException(), new GenericExceptionHandler(),
+        coreException, TimeUnit.MILLISECONDS.toNanos(2));
+    metrics.recordHandled(new IllegalStateException(), new GenericExceptionHandler(),
+        coreException, TimeUnit.MILLISECONDS.toNanos(4));
+
+    Counter counter = registry.get(MicrometerErrorHandlingMetrics.ERRORS_METRIC)
+        .tag("exception", IllegalStateException.class.getName())
+        .tag("handler", GenericExceptionHandler.class.getSimpleName())
+        .tag("status", "NOT_FOUND")
+        .tag("http.status", "404")
+        .counter();
+    Assertions.assertEquals(2.0d, counter.count());
+    Assertions.assertEquals(6.0d, registry.get(MicrometerErrorHandlingMetrics.LATENCY_METRIC)
+        .timer().totalTime(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void whenMoreExceptionClassesThanTags_thenReportOther() {
+    CoreException coreException = CoreException.builder().build();
+    metrics.recordHandled(new IllegalStateException(), new GenericExceptionHandler(),
+        coreException, 1);
+    metrics.recordHandled(new IllegalArgumentException(), new GenericExceptionHandler(),
+        coreException, 1);
+
+    Assertions.assertEquals(1.0d, registry.get(MicrometerErrorHandlingMetrics.ERRORS_METRIC)
+        .tag("exception", "other").tag("status", "none").tag("http.status", "500")
+        .counter().count());
+    Assertions.assertEquals(2, registry.find(MicrometerErrorHandlingMetrics.ERRORS_METRIC)
+        .counters().size());
+  }
+
+  @Test
+  void whenSelectionAndEncodingRecorded_thenUpdateTimers() {
+    metrics.recordHandlerSelection(TimeUnit.MICROSECONDS.toNanos(5));
+    metrics.recordEncoding(TimeUnit.MICROSECONDS.toNanos(7));
+    Assertions.assertTrue(metrics.isEnabled());
+    Assertions.assertEquals(1, registry.get(MicrometerErrorHandlingMetrics.SELECTION_METRIC)
+        .timer().count());
+    Assertions.assertEquals(1, registry.get(MicrometerErrorHandlingMetrics.ENCODING_METRIC)
+        .timer().count());
+  }
+
+}
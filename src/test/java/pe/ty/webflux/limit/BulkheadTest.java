@@ -0,0 +1,126 @@
+package pe.ty.webflux.limit;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class BulkheadTest {
+
+  private final static Mono<String> REJECTED = Mono.just("rejected");
+
+  @Test
+  void whenLimitReached_thenTryAcquireFails() {
+    Bulkhead bulkhead = new Bulkhead(2, 0, Duration.ofMillis(10), null);
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    Assertions.assertFalse(bulkhead.tryAcquire());
+    bulkhead.release(0);
+    Assertions.assertTrue(bulkhead.tryAcquire());
+  }
+
+  @Test
+  void whenActionCompletes_thenReleasePermit() {
+    Bulkhead bulkhead = new Bulkhead(1, 0, Duration.ofMillis(10), null);
+    StepVerifier.create(bulkhead.guard(Mono.just("done"), REJECTED))
+        .expectNext("done")
+        .verifyComplete();
+    Assertions.assertTrue(bulkhead.tryAcquire());
+  }
+
+  @Test
+  void whenPermitReleased_thenRunOldestWaiter() {
+    Bulkhead bulkhead = new Bulkhead(1, 1, Duration.ofSeconds(5), null);
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    StepVerifier.create(bulkhead.guard(Mono.just("done"), REJECTED))
+        .then(() -> bulkhead.release(0))
+        .expectNext("done")
+        .verifyComplete();
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    Assertions.assertFalse(bulkhead.tryAcquire());
+  }
+
+  @Test
+  void whenQueueFull_thenReject() {
+    Bulkhead bulkhead = new Bulkhead(1, 0, Duration.ofSeconds(5), null);
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    StepVerifier.create(bulkhead.guard(Mono.just("done"), REJECTED))
+        .expectNext("rejected")
+        .verifyComplete();
+  }
+
+  @Test
+  void whenWaitTimesOut_thenRejectAndKeepPermits() {
+    Bulkhead bulkhead = new Bulkhead(1, 1, Duration.ofMillis(20), null);
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    StepVerifier.create(bulkhead.guard(Mono.just("done"), REJECTED))
+        .expectNext("rejected")
+        .verifyComplete();
+    bulkhead.release(0);
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    Assertions.assertFalse(bulkhead.tryAcquire());
+  }
+
+  @Test
+  void whenWaiterCancelled_thenLeaveQueue() {
+    Bulkhead bulkhead = new Bulkhead(1, 1, Duration.ofSeconds(5), null);
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    bulkhead.guard(Mono.just("done"), REJECTED).subscribe().dispose();
+    StepVerifier.create(bulkhead.guard(Mono.just("done"), REJECTED))
+        .then(() -> bulkhead.release(0))
+        .expectNext("done")
+        .verifyComplete();
+  }
+
+  @Test
+  void whenCancelOrTimeoutRacesGrant_thenNeverLeakPermits() throws InterruptedException {
+    Bulkhead bulkhead = new Bulkhead(1, 1, Duration.ofMillis(1), null);
+    for (int i = 0; i < 2000; i++) {
+      Assertions.assertTrue(bulkhead.tryAcquire());
+      Disposable waiter = bulkhead.guard(Mono.never(), REJECTED).subscribe();
+      CountDownLatch released = new CountDownLatch(1);
+      Schedulers.parallel().schedule(() -> {
+        bulkhead.release(0);
+        released.countDown();
+      });
+      if (i % 2 == 0) {
+        waiter.dispose();
+      }
+      Assertions.assertTrue(released.await(5, TimeUnit.SECONDS));
+      waiter.dispose();
+      Assertions.assertTrue(bulkhead.tryAcquire(), "Leaked a permit on iteration " + i);
+      Assertions.assertFalse(bulkhead.tryAcquire());
+      bulkhead.release(0);
+    }
+  }
+
+  @Test
+  void whenSlowResponses_thenBackOffOncePerWindow() {
+    Bulkhead bulkhead = new Bulkhead(8, 0, Duration.ofMillis(10),
+        new Bulkhead.Adaptive(1, Duration.ofMillis(1), 0.5d, Duration.ofMinutes(1)));
+    long slow = TimeUnit.MILLISECONDS.toNanos(10);
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertTrue(bulkhead.tryAcquire());
+      bulkhead.release(slow);
+    }
+    Assertions.assertEquals(4, bulkhead.getLimit());
+  }
+
+  @Test
+  void whenSaturatedAndFast_thenGrowUpToMax() {
+    Bulkhead bulkhead = new Bulkhead(2, 0, Duration.ofMillis(10),
+        new Bulkhead.Adaptive(1, Duration.ofSeconds(1), 0.5d, Duration.ZERO));
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    bulkhead.release(TimeUnit.SECONDS.toNanos(2));
+    Assertions.assertEquals(1, bulkhead.getLimit());
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    bulkhead.release(0);
+    Assertions.assertEquals(2, bulkhead.getLimit());
+  }
+
+}
@@ -0,0 +1,78 @@
+package pe.ty.webflux.limit;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.util.pattern.PathPatternParser;
+import pe.ty.core.exception.CoreException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ConcurrencyLimitWebFilterTest {
+
+  private final Bulkhead bulkhead = new Bulkhead(1, 0, Duration.ofMillis(10), null);
+  private final ConcurrencyLimitWebFilter filter = new ConcurrencyLimitWebFilter(
+      Collections.singletonList(new ConcurrencyLimitWebFilter.Route(
+          new PathPatternParser().parse("/slow/**"), bulkhead, 503, Duration.ofSeconds(2))));
+
+  @Test
+  void whenRouteSaturated_thenReject() {
+    Disposable inFlight = filter.filter(exchange("/slow/1"), chained -> Mono.never())
+        .subscribe();
+    StepVerifier.create(filter.filter(exchange("/slow/2"), chained -> Mono.empty()))
+        .consumeErrorWith(ex -> {
+          CoreException rejection = (CoreException) ex;
+          Assertions.assertEquals(503, rejection.getHttpStatusCode());
+          Assertions.assertEquals("2", rejection.getHeaders().get(HttpHeaders.RETRY_AFTER));
+        })
+        .verify();
+
+    inFlight.dispose();
+    StepVerifier.create(filter.filter(exchange("/slow/3"), chained -> Mono.empty()))
+        .verifyComplete();
+  }
+
+  @Test
+  void whenRejectedTwice_thenBuildRejectionPerRequest() {
+    Disposable inFlight = filter.filter(exchange("/slow/1"), chained -> Mono.never())
+        .subscribe();
+    AtomicReference<Throwable> first = new AtomicReference<>();
+    StepVerifier.create(filter.filter(exchange("/slow/2"), chained -> Mono.empty()))
+        .consumeErrorWith(first::set)
+        .verify();
+    StepVerifier.create(filter.filter(exchange("/slow/3"), chained -> Mono.empty()))
+        .consumeErrorWith(ex -> {
+          Assertions.assertTrue(ex instanceof CoreException);
+          Assertions.assertNotSame(first.get(), ex);
+        })
+        .verify();
+    inFlight.dispose();
+  }
+
+  @Test
+  void whenPathNotGuarded_thenPassThrough() {
+    Assertions.assertTrue(bulkhead.tryAcquire());
+    StepVerifier.create(filter.filter(exchange("/fast"), chained -> Mono.empty()))
+        .verifyComplete();
+  }
+
+  @Test
+  void whenChainFails_thenReleasePermit() {
+    StepVerifier.create(filter.filter(exchange("/slow/1"),
+        chained -> Mono.error(new IllegalStateException())))
+        .expectError(IllegalStateException.class)
+        .verify();
+    Assertions.assertTrue(bulkhead.tryAcquire());
+  }
+
+  private static MockServerWebExchange exchange(String path) {
+    return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+  }
+
+}
@@ -0,0 +1,71 @@
+package pe.ty.webflux.limit;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class RequestBodyLimitWebFilterTest {
+
+  private final RequestBodyLimitWebFilter filter = new RequestBodyLimitWebFilter(8);
+
+  @Test
+  void whenContentLengthOverLimit_thenRejectBeforeReading() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+        .post("/").contentLength(9).body("123456789"));
+    StepVerifier.create(filter.filter(exchange, chained -> {
+      throw new AssertionError("The chain must not be invoked");
+    }))
+        .expectError(DataBufferLimitException.class)
+        .verify();
+  }
+
+  @Test
+  void whenContentLengthWithinLimit_thenPassThrough() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+        .post("/").contentLength(8).body("12345678"));
+    StepVerifier.create(filter.filter(exchange, chained -> DataBufferUtils
+        .join(chained.getRequest().getBody())
+        .doOnNext(DataBufferUtils::release)
+        .then()))
+        .verifyComplete();
+  }
+
+  @Test
+  void whenChunkedBodyOverLimit_thenFailWhileReading() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+        .post("/").body(Flux.just(buffer("12345"), buffer("6789"))));
+    StepVerifier.create(filter.filter(exchange, chained -> DataBufferUtils
+        .join(chained.getRequest().getBody())
+        .doOnNext(DataBufferUtils::release)
+        .then()))
+        .expectError(DataBufferLimitException.class)
+        .verify();
+  }
+
+  @Test
+  void whenChunkedBodyWithinLimit_thenReadWholeBody() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+        .post("/").body(Flux.just(buffer("1234"), buffer("5678"))));
+    StepVerifier.create(filter.filter(exchange, chained -> DataBufferUtils
+        .join(chained.getRequest().getBody())
+        .doOnNext(buffer -> {
+          Assertions.assertEquals(8, buffer.readableByteCount());
+          DataBufferUtils.release(buffer);
+        })
+        .then()))
+        .verifyComplete();
+  }
+
+  private static DataBuffer buffer(String value) {
+    return new DefaultDataBufferFactory().wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -0,0 +1,102 @@
+package pe.ty.webflux.server;
+
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import java.io.InputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+class TyNettyServerCustomizerTest {
+
+  @Test
+  void whenConnectionIdleAfterRequest_thenCloseIt() throws Exception {
+    TyNettyServerCustomizer customizer = TyNettyServerCustomizer.builder()
+        .tcpNoDelay(true)
+        .idleTimeout(Duration.ofMillis(100))
+        .build();
+    DisposableServer server = customizer.apply(HttpServer.create().port(0))
+        .handle((request, response) -> response.sendString(Mono.just("ok")))
+        .bindNow();
+    try (Socket socket = new Socket("localhost", server.port())) {
+      socket.setSoTimeout(5000);
+      socket.getOutputStream()
+          .write("GET / HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+      InputStream input = socket.getInputStream();
+      byte[] buffer = new byte[1024];
+      int read;
+      do {
+        read = input.read(buffer);
+      } while (read != -1);
+    } finally {
+      server.disposeNow();
+    }
+  }
+
+  @Test
+  void whenConnectionNeverSendsRequest_thenCloseIt() throws Exception {
+    TyNettyServerCustomizer customizer = TyNettyServerCustomizer.builder()
+        .idleTimeout(Duration.ofMillis(100))
+        .build();
+    DisposableServer server = customizer.apply(HttpServer.create().port(0))
+        .handle((request, response) -> response.sendString(Mono.just("ok")))
+        .bindNow();
+    try (Socket socket = new Socket("localhost", server.port())) {
+      socket.setSoTimeout(5000);
+      Assertions.assertEquals(-1, socket.getInputStream().read());
+    } finally {
+      server.disposeNow();
+    }
+  }
+
+  @Test
+  void whenCompressionEnabled_thenCompressLargeResponses() {
+    TyNettyServerCustomizer customizer = TyNettyServerCustomizer.builder()
+        .compressionMinResponseSize(16)
+        .build();
+    String body = new String(new char[1024]).replace('\0', 'a');
+    DisposableServer server = customizer.apply(HttpServer.create().port(0))
+        .handle((request, response) -> response.sendString(Mono.just(body)))
+        .bindNow();
+    try {
+      String encoding = HttpClient.create()
+          .port(server.port())
+          .headers(headers -> headers.add("Accept-Encoding", "gzip"))
+          .get().uri("/")
+          .response((response, content) -> content.then(Mono.just(
+              String.valueOf(response.responseHeaders().get("Content-Encoding")))))
+          .blockFirst(Duration.ofSeconds(5));
+      Assertions.assertEquals("gzip", encoding);
+    } finally {
+      server.disposeNow();
+    }
+  }
+
+  @Test
+  void whenPreferNativeWithoutLoopResources_thenApplyTransport() {
+    Assertions.assertEquals(NioServerSocketChannel.class, bindServerChannel(false));
+    Assertions.assertEquals(LoopResources.hasNativeSupport(),
+        bindServerChannel(true) != NioServerSocketChannel.class);
+  }
+
+  private static Class<?> bindServerChannel(boolean preferNative) {
+    TyNettyServerCustomizer customizer = TyNettyServerCustomizer.builder()
+        .preferNative(preferNative)
+        .build();
+    DisposableServer server = customizer.apply(HttpServer.create().port(0))
+        .handle((request, response) -> response.sendString(Mono.just("ok")))
+        .bindNow();
+    try {
+      return server.channel().getClass();
+    } finally {
+      server.disposeNow();
+    }
+  }
+
+}
@@ -0,0 +1,114 @@
+package pe.ty.webflux.timeout;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pe.ty.core.exception.CoreException;
+import pe.ty.core.exception.CoreExceptionStatus;
+import pe.ty.webflux.autoconfigure.TyJacksonAutoConfiguration;
+import pe.ty.webflux.autoconfigure.TyReactiveExceptionHandlerAutoConfiguration;
+import pe.ty.webflux.autoconfigure.TyTimeoutAutoConfiguration;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class RequestTimeoutWebFilterTest {
+
+  private final ReactiveWebApplicationContextRunner contextRunner =
+      new ReactiveWebApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+              CodecsAutoConfiguration.class, WebFluxAutoConfiguration.class,
+              TyJacksonAutoConfiguration.class,
+              TyReactiveExceptionHandlerAutoConfiguration.class,
+              TyTimeoutAutoConfiguration.class))
+          .withPropertyValues("application.error.timeout.code=ER0007",
+              "ty.webflux.timeout.enabled=true",
+              "ty.webflux.timeout.default-timeout=200ms",
+              "ty.webflux.timeout.routes[0].path-pattern=/unbounded/**",
+              "ty.webflux.timeout.routes[0].timeout=0")
+          .withUserConfiguration(SlowController.class);
+
+  @Test
+  void whenDeadlinePasses_thenCancelHandlerAndRenderTimeout() {
+    contextRunner.run(context -> {
+      WebTestClient.bindToApplicationContext(context).build()
+          .get().uri("/never")
+          .exchange()
+          .expectStatus().isEqualTo(HttpStatus.GATEWAY_TIMEOUT)
+          .expectBody().jsonPath("$.code").isEqualTo("ER0007");
+
+      Assertions.assertTrue(context.getBean(SlowController.class).cancelled
+          .await(5, TimeUnit.SECONDS));
+    });
+  }
+
+  @Test
+  void whenDelayedBeyondDeadline_thenRenderTimeout() {
+    contextRunner.run(context -> WebTestClient.bindToApplicationContext(context).build()
+        .get().uri("/delayed")
+        .exchange()
+        .expectStatus().isEqualTo(HttpStatus.GATEWAY_TIMEOUT)
+        .expectBody().jsonPath("$.code").isEqualTo("ER0007"));
+  }
+
+  @Test
+  void whenRouteTimeoutIsZero_thenNoDeadline() {
+    contextRunner.run(context -> WebTestClient.bindToApplicationContext(context).build()
+        .get().uri("/unbounded/delayed")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(String.class).isEqualTo("late"));
+  }
+
+  @Test
+  void whenTimedOutTwice_thenBuildExceptionPerRequest() {
+    RequestTimeoutWebFilter filter = new RequestTimeoutWebFilter(Collections.emptyList(),
+        RequestTimeoutWebFilter.Route.of(null, Duration.ofMillis(10)));
+    AtomicReference<Throwable> first = new AtomicReference<>();
+
+    StepVerifier.create(filter.filter(exchange(), chained -> Mono.never()))
+        .consumeErrorWith(first::set)
+        .verify();
+    StepVerifier.create(filter.filter(exchange(), chained -> Mono.never()))
+        .consumeErrorWith(ex -> {
+          Assertions.assertEquals(CoreExceptionStatus.TIMEOUT, ((CoreException) ex).getStatus());
+          Assertions.assertNotSame(first.get(), ex);
+        })
+        .verify();
+  }
+
+  private static MockServerWebExchange exchange() {
+    return MockServerWebExchange.from(MockServerHttpRequest.get("/never"));
+  }
+
+  @RestController
+  static class SlowController {
+
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+
+    @GetMapping("/never")
+    public Mono<String> never() {
+      return Mono.<String>never().doOnCancel(cancelled::countDown);
+    }
+
+    @GetMapping({"/delayed", "/unbounded/delayed"})
+    public Mono<String> delayed() {
+      return Mono.just("late").delayElement(Duration.ofMillis(400));
+    }
+  }
+
+}